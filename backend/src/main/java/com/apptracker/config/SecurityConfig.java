@@ -3,6 +3,7 @@ package com.apptracker.config;
 import com.apptracker.security.JwtAuthFilter;
 import com.apptracker.security.OAuth2SuccessHandler;
 import com.apptracker.service.OAuth2Service;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -46,7 +47,13 @@ public class SecurityConfig {
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .authorizeHttpRequests(auth -> auth
+                                                // Async dispatches of already-authorized streaming responses (SSE)
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                                 .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                                                // Metrics and job status expose cross-user operational data
+                                                .requestMatchers(EndpointRequest.toAnyEndpoint()
+                                                                .excluding(HealthEndpoint.class))
+                                                .hasRole("ADMIN")
                                                 .requestMatchers("/api/auth/login", "/api/auth/register",
                                                                 "/api/auth/verify-email",
                                                                 "/api/auth/resend-verification-email",
@@ -74,7 +81,7 @@ public class SecurityConfig {
                                 Arrays.asList("http://localhost:3000", frontendUrl));
                 configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
                 configuration.setAllowedHeaders(Collections.singletonList("*"));
-                configuration.setExposedHeaders(Arrays.asList("Authorization", "Location"));
+                configuration.setExposedHeaders(Arrays.asList("Authorization", "Location", "ETag"));
                 configuration.setAllowCredentials(true);
                 UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
                 source.registerCorsConfiguration("/**", configuration);
@@ -1,13 +1,19 @@
 package com.apptracker.controller;
 
+import com.apptracker.dto.CompanyResponseRateDTO;
+import com.apptracker.dto.HistogramDTO;
+import com.apptracker.dto.StatusFunnelDTO;
 import com.apptracker.model.ApplicationEntity;
 import com.apptracker.repository.ApplicationRepository;
 import com.apptracker.service.AnalyticsService;
+import com.apptracker.service.CompanyStatsService;
+import com.apptracker.service.StatusFunnelService;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
 import java.util.*;
 
 @RestController
@@ -16,9 +22,16 @@ import java.util.*;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final StatusFunnelService statusFunnelService;
+    private final CompanyStatsService companyStatsService;
 
-    public AnalyticsController(AnalyticsService analyticsService) {
+    private static final int MAX_COMPANY_RESULTS = 200;
+
+    public AnalyticsController(AnalyticsService analyticsService, StatusFunnelService statusFunnelService,
+            CompanyStatsService companyStatsService) {
         this.analyticsService = analyticsService;
+        this.statusFunnelService = statusFunnelService;
+        this.companyStatsService = companyStatsService;
     }
 
     @GetMapping
@@ -26,4 +39,28 @@ public class AnalyticsController {
         return ResponseEntity.ok(analyticsService.getAnalytics(userId));
     }
 
+    // Applications per day, week or month of date_applied over an arbitrary range
+    @GetMapping("/histogram")
+    public ResponseEntity<HistogramDTO> getHistogram(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "week") String granularity,
+            @RequestParam(required = false) OffsetDateTime from,
+            @RequestParam(required = false) OffsetDateTime to) {
+        return ResponseEntity.ok(analyticsService.getAppliedHistogram(userId, granularity, from, to));
+    }
+
+    @GetMapping("/funnel")
+    public ResponseEntity<StatusFunnelDTO> getFunnel(@AuthenticationPrincipal UUID userId) {
+        return ResponseEntity.ok(statusFunnelService.getFunnel(userId));
+    }
+
+    // Anonymized cross-user response rates, served from the nightly aggregates
+    @GetMapping("/companies")
+    public ResponseEntity<List<CompanyResponseRateDTO>> getCompanyResponseRates(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "50") int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_COMPANY_RESULTS));
+        return ResponseEntity.ok(companyStatsService.getResponseRates(q, cappedLimit));
+    }
+
 }
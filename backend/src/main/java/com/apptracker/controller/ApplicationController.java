@@ -3,17 +3,27 @@ package com.apptracker.controller;
 import com.apptracker.dto.*;
 import com.apptracker.service.*;
 import com.apptracker.model.*;
+import com.apptracker.util.ETagUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -30,6 +40,14 @@ public class ApplicationController {
     private final ReminderService reminderService;
     private final AttachmentService attachmentService;
     private final ActivityService activityService;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationDetailService applicationDetailService;
+    private final ChangeVersionService changeVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final ExportService exportService;
+
+    // Let the browser store responses but revalidate them with If-None-Match every time
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     public ApplicationController(ApplicationService applicationService,
             NoteService noteService,
@@ -37,7 +55,12 @@ public class ApplicationController {
             ReminderService reminderService,
             AttachmentService attachmentService,
             ActivityService activityService,
-            ImportService importService) {
+            ImportService importService,
+            SearchIndexService searchIndexService,
+            ApplicationDetailService applicationDetailService,
+            ChangeVersionService changeVersionService,
+            ChangeFeedService changeFeedService,
+            ExportService exportService) {
         this.applicationService = applicationService;
         this.noteService = noteService;
         this.contactService = contactService;
@@ -45,21 +68,125 @@ public class ApplicationController {
         this.attachmentService = attachmentService;
         this.activityService = activityService;
         this.importService = importService;
+        this.searchIndexService = searchIndexService;
+        this.applicationDetailService = applicationDetailService;
+        this.changeVersionService = changeVersionService;
+        this.changeFeedService = changeFeedService;
+        this.exportService = exportService;
     }
 
     @GetMapping
-    public ResponseEntity<Page<ApplicationDTO>> getApplications(
+    public ResponseEntity<?> getApplications(
             @AuthenticationPrincipal UUID userId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String q,
             @RequestParam(required = false) OffsetDateTime from,
             @RequestParam(required = false) OffsetDateTime to,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = changeVersionService.currentETag(userId);
+        if (ETagUtils.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        // Opt-in keyset pagination: returns a cursor page without a count query
+        if (cursor || after != null) {
+            CursorPage<ApplicationDTO> apps = applicationService.getApplicationsAfter(
+                    userId, status, q, from, to, after, size);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(apps);
+        }
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // Count-free mode: totals are available separately from /count
+        if (slice) {
+            Slice<ApplicationDTO> apps = applicationService.getApplicationsSlice(
+                    userId, status, q, from, to, pageRequest);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(apps);
+        }
+
         Page<ApplicationDTO> apps = applicationService.getApplications(userId, status, q, from, to, pageRequest);
-        return ResponseEntity.ok(apps);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(apps);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> countApplications(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) OffsetDateTime from,
+            @RequestParam(required = false) OffsetDateTime to) {
+
+        long total = applicationService.countApplications(userId, status, q, from, to);
+        return ResponseEntity.ok(Map.of("total", total));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ApplicationDTO>> searchApplications(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<ApplicationDTO> results = applicationService.searchApplications(userId, q, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    // Search-as-you-type over applications, notes and contacts, served from the in-memory index
+    @GetMapping("/search/instant")
+    public ResponseEntity<List<ApplicationDTO>> instantSearch(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<ApplicationDTO> results = searchIndexService.search(userId, q, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    // Kanban board: per-status totals and the first cards of every column in one call
+    @GetMapping("/board")
+    public ResponseEntity<List<BoardColumnDTO>> getBoard(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "20") int perColumn) {
+
+        return ResponseEntity.ok(applicationService.getBoard(userId, perColumn));
+    }
+
+    @GetMapping("/board/{status}")
+    public ResponseEntity<CursorPage<ApplicationDTO>> getBoardColumn(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable String status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(applicationService.getBoardColumn(userId, status, after, size));
+    }
+
+    // Full history export for spreadsheets; streamed, so it works for any number of applications
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        ExportService.Format exportFormat = ExportService.parseFormat(format);
+        boolean csv = exportFormat == ExportService.Format.CSV;
+        String filename = csv ? "applications.csv" : "applications.ndjson";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .body(exportService.exportHistory(userId, exportFormat));
+    }
+
+    // Live change notifications so clients can update the list instead of polling it
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@AuthenticationPrincipal UUID userId) {
+        return changeFeedService.subscribe(userId);
     }
 
     @PostMapping
@@ -87,10 +214,32 @@ public class ApplicationController {
     @GetMapping("/{id}")
     public ResponseEntity<ApplicationDTO> getApplication(
             @AuthenticationPrincipal UUID userId,
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = changeVersionService.currentETag(userId);
+        if (ETagUtils.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
 
         ApplicationDTO app = applicationService.getApplicationById(userId, id);
-        return ResponseEntity.ok(app);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(app);
+    }
+
+    // Application plus all child collections in a single round trip
+    @GetMapping("/{id}/full")
+    public ResponseEntity<ApplicationDetailDTO> getApplicationDetail(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = changeVersionService.currentETag(userId);
+        if (ETagUtils.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        ApplicationDetailDTO detail = applicationDetailService.getApplicationDetail(userId, id);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(detail);
     }
 
     @PutMapping("/{id}")
@@ -122,6 +271,25 @@ public class ApplicationController {
         return ResponseEntity.ok(app);
     }
 
+    // Drag and drop on the board: reorders within a column or moves to another one
+    @PatchMapping("/{id}/position")
+    public ResponseEntity<ApplicationDTO> moveCard(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable UUID id,
+            @RequestBody MoveCardRequest request) {
+
+        return ResponseEntity.ok(applicationService.moveCard(userId, id, request));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> bulkOperation(
+            @AuthenticationPrincipal UUID userId,
+            @RequestBody BulkOperationRequest request) {
+
+        BulkOperationResponse response = applicationService.applyBulkOperation(userId, request);
+        return ResponseEntity.ok(response);
+    }
+
     // Notes endpoints
     @GetMapping("/{id}/notes")
     public ResponseEntity<List<Note>> getNotes(
@@ -266,4 +434,8 @@ public class ApplicationController {
         ImportResponse result = importService.importApplication(userId, request);
         return ResponseEntity.ok(result);
     }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.apptracker.controller;
+
+import com.apptracker.dto.DashboardDTO;
+import com.apptracker.service.DashboardService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<DashboardDTO> getDashboard(@AuthenticationPrincipal UUID userId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userId));
+    }
+}
@@ -0,0 +1,31 @@
+package com.apptracker.controller;
+
+import com.apptracker.dto.ScheduledJobStatusDTO;
+import com.apptracker.service.ScheduledJobMonitor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Read-only actuator endpoint (/actuator/scheduledjobs) listing the latest
+ * state of every scheduled job that has run or been skipped on this node.
+ * Failure messages can carry SQL and internal details, so SecurityConfig only
+ * lets admins read it.
+ */
+@Component
+@Endpoint(id = "scheduledjobs")
+public class ScheduledJobsEndpoint {
+
+    private final ScheduledJobMonitor jobMonitor;
+
+    public ScheduledJobsEndpoint(ScheduledJobMonitor jobMonitor) {
+        this.jobMonitor = jobMonitor;
+    }
+
+    @ReadOperation
+    public List<ScheduledJobStatusDTO> jobs() {
+        return jobMonitor.getStatuses();
+    }
+}
@@ -0,0 +1,47 @@
+package com.apptracker.dto;
+
+import java.util.UUID;
+
+public class ApplicationChangeEvent {
+    private String type;
+    private UUID id;
+    private long version;
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    public ApplicationChangeEvent() {
+    }
+
+    public ApplicationChangeEvent(Type type, UUID id, long version) {
+        this.type = type.name();
+        this.id = id;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -34,6 +34,24 @@ public class ApplicationDTO {
         this.updatedAt = entity.getUpdatedAt();
     }
 
+    // Constructor projection used by JPQL/criteria "select new" queries
+    public ApplicationDTO(UUID id, String company, String role, String location,
+            ApplicationEntity.Status status, OffsetDateTime dateApplied, String jobUrl,
+            ApplicationEntity.Priority priority, boolean archived,
+            OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        this.id = id;
+        this.company = company;
+        this.role = role;
+        this.location = location;
+        this.status = status != null ? status.name() : null;
+        this.dateApplied = dateApplied;
+        this.jobUrl = jobUrl;
+        this.priority = priority != null ? priority.name() : null;
+        this.archived = archived;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -0,0 +1,51 @@
+package com.apptracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardColumnDTO {
+    private String status;
+    private long count;
+    private List<ApplicationDTO> cards = new ArrayList<>();
+    private String nextCursor;
+
+    public BoardColumnDTO() {
+    }
+
+    public BoardColumnDTO(String status) {
+        this.status = status;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public List<ApplicationDTO> getCards() {
+        return cards;
+    }
+
+    public void setCards(List<ApplicationDTO> cards) {
+        this.cards = cards;
+    }
+
+    // Pass to GET /api/apps/board/{status}?after= to load the rest of the column
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.apptracker.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkOperationRequest {
+    private String action;
+    private List<UUID> ids;
+    // Target status, required when action is STATUS
+    private String status;
+
+    public enum Action {
+        STATUS, ARCHIVE, DELETE
+    }
+
+    // Getters and Setters
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,65 @@
+package com.apptracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BulkOperationResponse {
+    private String action;
+    private List<BulkItemResult> results = new ArrayList<>();
+
+    public BulkOperationResponse() {
+    }
+
+    public BulkOperationResponse(String action) {
+        this.action = action;
+    }
+
+    public void addSuccess(UUID id) {
+        results.add(new BulkItemResult(id, true, null));
+    }
+
+    public void addError(UUID id, String message) {
+        results.add(new BulkItemResult(id, false, message));
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public int getSuccessCount() {
+        return (int) results.stream().filter(BulkItemResult::isSuccess).count();
+    }
+
+    public int getErrorCount() {
+        return results.size() - getSuccessCount();
+    }
+
+    public static class BulkItemResult {
+        private UUID id;
+        private boolean success;
+        private String message;
+
+        public BulkItemResult(UUID id, boolean success, String message) {
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.apptracker.dto;
+
+import java.time.OffsetDateTime;
+
+public class CompanyResponseRateDTO {
+    private String company;
+    private long applications;
+    private double responseRate;
+    private double interviewRate;
+    private double offerRate;
+    private OffsetDateTime computedAt;
+
+    public CompanyResponseRateDTO() {
+    }
+
+    public CompanyResponseRateDTO(String company, long applications, long responses, long interviews, long offers,
+            OffsetDateTime computedAt) {
+        this.company = company;
+        this.applications = applications;
+        this.responseRate = rate(responses, applications);
+        this.interviewRate = rate(interviews, applications);
+        this.offerRate = rate(offers, applications);
+        this.computedAt = computedAt;
+    }
+
+    private static double rate(long count, long total) {
+        return total > 0 ? (double) count / total * 100 : 0;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+
+    public double getResponseRate() {
+        return responseRate;
+    }
+
+    public void setResponseRate(double responseRate) {
+        this.responseRate = responseRate;
+    }
+
+    public double getInterviewRate() {
+        return interviewRate;
+    }
+
+    public void setInterviewRate(double interviewRate) {
+        this.interviewRate = interviewRate;
+    }
+
+    public double getOfferRate() {
+        return offerRate;
+    }
+
+    public void setOfferRate(double offerRate) {
+        this.offerRate = offerRate;
+    }
+
+    public OffsetDateTime getComputedAt() {
+        return computedAt;
+    }
+
+    public void setComputedAt(OffsetDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+}
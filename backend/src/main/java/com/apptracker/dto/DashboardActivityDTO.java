@@ -0,0 +1,87 @@
+package com.apptracker.dto;
+
+import com.apptracker.model.Activity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class DashboardActivityDTO {
+    private UUID id;
+    private UUID applicationId;
+    private String company;
+    private String role;
+    private String type;
+    private String message;
+    private OffsetDateTime createdAt;
+
+    public DashboardActivityDTO() {
+    }
+
+    // Used by JPQL constructor projections
+    public DashboardActivityDTO(UUID id, UUID applicationId, String company, String role,
+            Activity.ActivityType type, String message, OffsetDateTime createdAt) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.company = company;
+        this.role = role;
+        this.type = type != null ? type.name() : null;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(UUID applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.apptracker.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class DashboardDTO {
+    private Map<String, Long> statusCounts;
+    private long totalApplications;
+    private List<DashboardReminderDTO> upcomingReminders;
+    private List<DashboardActivityDTO> recentActivity;
+
+    public DashboardDTO() {
+    }
+
+    public DashboardDTO(Map<String, Long> statusCounts, List<DashboardReminderDTO> upcomingReminders,
+            List<DashboardActivityDTO> recentActivity) {
+        this.statusCounts = statusCounts;
+        this.totalApplications = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        this.upcomingReminders = upcomingReminders;
+        this.recentActivity = recentActivity;
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public List<DashboardReminderDTO> getUpcomingReminders() {
+        return upcomingReminders;
+    }
+
+    public void setUpcomingReminders(List<DashboardReminderDTO> upcomingReminders) {
+        this.upcomingReminders = upcomingReminders;
+    }
+
+    public List<DashboardActivityDTO> getRecentActivity() {
+        return recentActivity;
+    }
+
+    public void setRecentActivity(List<DashboardActivityDTO> recentActivity) {
+        this.recentActivity = recentActivity;
+    }
+}
@@ -0,0 +1,75 @@
+package com.apptracker.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class DashboardReminderDTO {
+    private UUID id;
+    private UUID applicationId;
+    private String company;
+    private String role;
+    private OffsetDateTime remindAt;
+    private String message;
+
+    public DashboardReminderDTO() {
+    }
+
+    // Used by JPQL constructor projections
+    public DashboardReminderDTO(UUID id, UUID applicationId, String company, String role,
+            OffsetDateTime remindAt, String message) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.company = company;
+        this.role = role;
+        this.remindAt = remindAt;
+        this.message = message;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(UUID applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public OffsetDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public void setRemindAt(OffsetDateTime remindAt) {
+        this.remindAt = remindAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.apptracker.dto;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HistogramDTO {
+    private String granularity;
+    private List<Bucket> buckets = new ArrayList<>();
+
+    public HistogramDTO() {
+    }
+
+    public HistogramDTO(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void addBucket(OffsetDateTime start, long count) {
+        buckets.add(new Bucket(start, count));
+    }
+
+    public static class Bucket {
+        private OffsetDateTime start;
+        private long count;
+
+        public Bucket(OffsetDateTime start, long count) {
+            this.start = start;
+            this.count = count;
+        }
+
+        public OffsetDateTime getStart() {
+            return start;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
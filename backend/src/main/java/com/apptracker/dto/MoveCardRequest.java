@@ -0,0 +1,38 @@
+package com.apptracker.dto;
+
+import java.util.UUID;
+
+/**
+ * Drops a card into a board column between two neighbouring cards. Either
+ * neighbour may be omitted: no previousId places the card at the top of the
+ * column, no nextId directly below previousId (or at the bottom).
+ */
+public class MoveCardRequest {
+    private String status;
+    private UUID previousId;
+    private UUID nextId;
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public UUID getPreviousId() {
+        return previousId;
+    }
+
+    public void setPreviousId(UUID previousId) {
+        this.previousId = previousId;
+    }
+
+    public UUID getNextId() {
+        return nextId;
+    }
+
+    public void setNextId(UUID nextId) {
+        this.nextId = nextId;
+    }
+}
@@ -0,0 +1,121 @@
+package com.apptracker.dto;
+
+import java.time.OffsetDateTime;
+
+public class ScheduledJobStatusDTO {
+    private String name;
+    private boolean running;
+    private long runs;
+    private long failures;
+    private long skipped;
+    private long totalRows;
+    private long lastRows;
+    private long lastDurationMillis;
+    private OffsetDateTime lastStartedAt;
+    private OffsetDateTime lastSuccessAt;
+    private OffsetDateTime lastFailureAt;
+    private String lastError;
+
+    public ScheduledJobStatusDTO() {
+    }
+
+    public ScheduledJobStatusDTO(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public void setRuns(long runs) {
+        this.runs = runs;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getLastRows() {
+        return lastRows;
+    }
+
+    public void setLastRows(long lastRows) {
+        this.lastRows = lastRows;
+    }
+
+    public long getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+    public void setLastDurationMillis(long lastDurationMillis) {
+        this.lastDurationMillis = lastDurationMillis;
+    }
+
+    public OffsetDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(OffsetDateTime lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public OffsetDateTime getLastSuccessAt() {
+        return lastSuccessAt;
+    }
+
+    public void setLastSuccessAt(OffsetDateTime lastSuccessAt) {
+        this.lastSuccessAt = lastSuccessAt;
+    }
+
+    public OffsetDateTime getLastFailureAt() {
+        return lastFailureAt;
+    }
+
+    public void setLastFailureAt(OffsetDateTime lastFailureAt) {
+        this.lastFailureAt = lastFailureAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,75 @@
+package com.apptracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StatusFunnelDTO {
+    private long applications;
+    private List<StageStats> stages = new ArrayList<>();
+
+    public StatusFunnelDTO() {
+    }
+
+    public StatusFunnelDTO(long applications) {
+        this.applications = applications;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public List<StageStats> getStages() {
+        return stages;
+    }
+
+    public void addStage(StageStats stage) {
+        stages.add(stage);
+    }
+
+    /**
+     * One status in the funnel. Durations are in seconds and only cover
+     * applications that have already left the stage.
+     */
+    public static class StageStats {
+        private String status;
+        private long reached;
+        private long exited;
+        private long avgSeconds;
+        private long p50Seconds;
+        private long p90Seconds;
+
+        public StageStats(String status, long reached, long exited,
+                long avgSeconds, long p50Seconds, long p90Seconds) {
+            this.status = status;
+            this.reached = reached;
+            this.exited = exited;
+            this.avgSeconds = avgSeconds;
+            this.p50Seconds = p50Seconds;
+            this.p90Seconds = p90Seconds;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public long getReached() {
+            return reached;
+        }
+
+        public long getExited() {
+            return exited;
+        }
+
+        public long getAvgSeconds() {
+            return avgSeconds;
+        }
+
+        public long getP50Seconds() {
+            return p50Seconds;
+        }
+
+        public long getP90Seconds() {
+            return p90Seconds;
+        }
+    }
+}
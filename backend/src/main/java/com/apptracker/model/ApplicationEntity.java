@@ -39,6 +39,10 @@ public class ApplicationEntity {
     @Column(nullable = false)
     private boolean archived = false;
 
+    // Fractional-index position within the status column, see FractionalIndex
+    @Column(name = "board_rank", nullable = false)
+    private String boardRank;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -147,6 +151,14 @@ public class ApplicationEntity {
         this.archived = archived;
     }
 
+    public String getBoardRank() {
+        return boardRank;
+    }
+
+    public void setBoardRank(String boardRank) {
+        this.boardRank = boardRank;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
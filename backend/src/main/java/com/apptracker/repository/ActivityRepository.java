@@ -1,13 +1,23 @@
 package com.apptracker.repository;
 
+import com.apptracker.dto.DashboardActivityDTO;
 import com.apptracker.model.Activity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ActivityRepository extends JpaRepository<Activity, UUID> {
+public interface ActivityRepository extends JpaRepository<Activity, UUID>, ActivityRepositoryCustom {
     List<Activity> findByApplicationIdOrderByCreatedAtDesc(UUID applicationId);
+
+    // Latest activity across all of a user's applications
+    @Query("SELECT new com.apptracker.dto.DashboardActivityDTO(ac.id, ac.applicationId, a.company, a.role, " +
+            "ac.type, ac.message, ac.createdAt) FROM Activity ac JOIN ApplicationEntity a ON ac.applicationId = a.id " +
+            "WHERE a.userId = :userId ORDER BY ac.createdAt DESC")
+    List<DashboardActivityDTO> findRecentForDashboard(@Param("userId") UUID userId, Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package com.apptracker.repository;
+
+import com.apptracker.model.Activity;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ActivityRepositoryCustom {
+    // Inserts all rows with a single JDBC batch instead of one INSERT round trip per entity
+    void batchInsert(List<Activity> activities);
+
+    /**
+     * Streams every application of the user joined with its STATUS_CHANGED
+     * activity, ordered by (application_id, created_at). Applications with no
+     * status change produce one row with a null message and changedAt. Rows are
+     * fetched from a server-side cursor, so callers must be in a transaction.
+     */
+    void streamStatusHistory(UUID userId, StatusHistoryHandler handler);
+
+    @FunctionalInterface
+    interface StatusHistoryHandler {
+        void accept(UUID applicationId, String currentStatus, OffsetDateTime applicationCreatedAt,
+                String message, OffsetDateTime changedAt);
+    }
+}
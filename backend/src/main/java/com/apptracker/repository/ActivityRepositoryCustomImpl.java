@@ -0,0 +1,59 @@
+package com.apptracker.repository;
+
+import com.apptracker.model.Activity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ActivityRepositoryCustomImpl implements ActivityRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO activity (id, application_id, type, message, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String STATUS_HISTORY_SQL =
+            "SELECT a.id, a.status, a.created_at, ac.message, ac.created_at FROM applications a " +
+            "LEFT JOIN activity ac ON ac.application_id = a.id AND ac.type = 'STATUS_CHANGED' " +
+            "WHERE a.user_id = ? ORDER BY a.id, ac.created_at";
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void batchInsert(List<Activity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, activities, activities.size(), (ps, activity) -> {
+            ps.setObject(1, activity.getId());
+            ps.setObject(2, activity.getApplicationId());
+            ps.setString(3, activity.getType().name());
+            ps.setString(4, activity.getMessage());
+            ps.setObject(5, activity.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void streamStatusHistory(UUID userId, StatusHistoryHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STATUS_HISTORY_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setObject(1, userId);
+            return ps;
+        }, rs -> {
+            handler.accept(
+                    rs.getObject(1, UUID.class),
+                    rs.getString(2),
+                    rs.getObject(3, OffsetDateTime.class),
+                    rs.getString(4),
+                    rs.getObject(5, OffsetDateTime.class));
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.apptracker.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Streams a user's applications joined with their status-change history for
+ * export. Rows come off a server-side cursor with a fixed fetch size, so
+ * memory stays flat however many rows the user has; callers must be in a
+ * transaction for the driver to use a cursor.
+ */
+@Repository
+public class ApplicationExportRepository {
+
+    private static final String EXPORT_SQL =
+            "SELECT a.id, a.company, a.role, a.location, a.status, a.priority, a.date_applied, a.job_url, " +
+            "a.archived, a.created_at, a.updated_at, ac.message, ac.created_at " +
+            "FROM applications a " +
+            "LEFT JOIN activity ac ON ac.application_id = a.id AND ac.type = 'STATUS_CHANGED' " +
+            "WHERE a.user_id = ? ORDER BY a.created_at, a.id, ac.created_at";
+
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApplicationExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Calls the handler once per (application, status change) pair in
+     * application creation order; an application without status changes
+     * produces one row with a null change message
+     */
+    public void streamHistory(UUID userId, ExportRowHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, userId);
+            return ps;
+        }, rs -> {
+            handler.accept(new ExportRow(
+                    rs.getObject(1, UUID.class),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getObject(7, OffsetDateTime.class),
+                    rs.getString(8),
+                    rs.getBoolean(9),
+                    rs.getObject(10, OffsetDateTime.class),
+                    rs.getObject(11, OffsetDateTime.class),
+                    rs.getString(12),
+                    rs.getObject(13, OffsetDateTime.class)));
+        });
+    }
+
+    public record ExportRow(UUID id, String company, String role, String location, String status,
+            String priority, OffsetDateTime dateApplied, String jobUrl, boolean archived,
+            OffsetDateTime createdAt, OffsetDateTime updatedAt, String changeMessage, OffsetDateTime changedAt) {
+    }
+
+    @FunctionalInterface
+    public interface ExportRowHandler {
+        void accept(ExportRow row);
+    }
+}
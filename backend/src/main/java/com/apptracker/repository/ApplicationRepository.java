@@ -1,14 +1,107 @@
 package com.apptracker.repository;
 
+import com.apptracker.dto.ApplicationDTO;
 import com.apptracker.model.ApplicationEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ApplicationRepository
-        extends JpaRepository<ApplicationEntity, UUID>, JpaSpecificationExecutor<ApplicationEntity> {
+        extends JpaRepository<ApplicationEntity, UUID>, JpaSpecificationExecutor<ApplicationEntity>,
+        ApplicationRepositoryCustom {
     Page<ApplicationEntity> findByUserId(UUID userId, Pageable pageable);
+
+    List<ApplicationEntity> findAllByUserId(UUID userId);
+
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    // Row lock held until commit, so concurrent writes see each other's old -> new status
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ApplicationEntity a WHERE a.id = :id")
+    Optional<ApplicationEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    // Returns [bucket, count] pairs where bucket is the number of whole bucket widths
+    // between :start and date_applied; rows outside [start, end) are skipped. The divisor is
+    // cast so the division is never done at scale 0 (H2 would round 0.8 up to 1).
+    @Query(value = "SELECT b.bucket, COUNT(*) FROM (" +
+            "SELECT FLOOR((EXTRACT(EPOCH FROM a.date_applied) - :startEpoch) " +
+            "/ CAST(:bucketSeconds AS DOUBLE PRECISION)) AS bucket " +
+            "FROM applications a WHERE a.user_id = :userId " +
+            "AND a.date_applied >= :start AND a.date_applied < :end) b " +
+            "GROUP BY b.bucket", nativeQuery = true)
+    List<Object[]> countAppliedByBucket(@Param("userId") UUID userId,
+            @Param("start") OffsetDateTime start,
+            @Param("end") OffsetDateTime end,
+            @Param("startEpoch") long startEpoch,
+            @Param("bucketSeconds") long bucketSeconds);
+
+    // Returns [id, status, archived] rows for the subset of ids the user owns, locked until commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id, a.status, a.archived FROM ApplicationEntity a WHERE a.userId = :userId AND a.id IN :ids")
+    List<Object[]> findOwnedStatuses(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE ApplicationEntity a SET a.status = :status, a.updatedAt = :now " +
+            "WHERE a.userId = :userId AND a.id IN :ids")
+    int bulkUpdateStatus(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids,
+            @Param("status") ApplicationEntity.Status status, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("UPDATE ApplicationEntity a SET a.archived = true, a.updatedAt = :now " +
+            "WHERE a.userId = :userId AND a.id IN :ids")
+    int bulkArchive(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids,
+            @Param("now") OffsetDateTime now);
+
+    // Child rows are removed by the ON DELETE CASCADE foreign keys
+    @Modifying
+    @Query("DELETE FROM ApplicationEntity a WHERE a.userId = :userId AND a.id IN :ids")
+    int bulkDelete(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.apptracker.dto.ApplicationDTO(a.id, a.company, a.role, a.location, a.status, " +
+            "a.dateApplied, a.jobUrl, a.priority, a.archived, a.createdAt, a.updatedAt) " +
+            "FROM ApplicationEntity a WHERE a.id = :id AND a.userId = :userId")
+    Optional<ApplicationDTO> findDtoByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    // PostgreSQL only: relevance-ranked match against the generated search_vector column
+    @Query(value = "SELECT a.* FROM applications a " +
+            "WHERE a.user_id = :userId AND a.archived = false " +
+            "AND a.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "ORDER BY ts_rank(a.search_vector, to_tsquery('simple', :tsQuery)) DESC, a.created_at DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<ApplicationEntity> searchRanked(@Param("userId") UUID userId,
+            @Param("tsQuery") String tsQuery,
+            @Param("limit") int limit);
+
+    // Board column neighbours for fractional-index moves; archived cards are not on the board
+    @Query("SELECT MIN(a.boardRank) FROM ApplicationEntity a " +
+            "WHERE a.userId = :userId AND a.status = :status AND a.archived = false")
+    String findFirstBoardRank(@Param("userId") UUID userId, @Param("status") ApplicationEntity.Status status);
+
+    @Query("SELECT MIN(a.boardRank) FROM ApplicationEntity a " +
+            "WHERE a.userId = :userId AND a.status = :status AND a.archived = false " +
+            "AND a.boardRank > :rank AND a.id <> :excludeId")
+    String findBoardRankAfter(@Param("userId") UUID userId, @Param("status") ApplicationEntity.Status status,
+            @Param("rank") String rank, @Param("excludeId") UUID excludeId);
+
+    @Query("SELECT MAX(a.boardRank) FROM ApplicationEntity a " +
+            "WHERE a.userId = :userId AND a.status = :status AND a.archived = false " +
+            "AND a.boardRank < :rank AND a.id <> :excludeId")
+    String findBoardRankBefore(@Param("userId") UUID userId, @Param("status") ApplicationEntity.Status status,
+            @Param("rank") String rank, @Param("excludeId") UUID excludeId);
+
+    @Query("SELECT a.id, a.status, a.boardRank, a.archived FROM ApplicationEntity a " +
+            "WHERE a.userId = :userId AND a.id IN :ids")
+    List<Object[]> findBoardPositions(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,44 @@
+package com.apptracker.repository;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.model.ApplicationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ApplicationRepositoryCustom {
+    // Like findAll(spec, pageable) but fetches one extra row instead of running a COUNT query
+    Slice<ApplicationDTO> findSlice(Specification<ApplicationEntity> spec, Pageable pageable);
+
+    // Builds DTOs straight from the result set without loading managed entities
+    List<ApplicationDTO> findDtos(Specification<ApplicationEntity> spec, Sort sort, long offset, int limit);
+
+    // First perColumn non-archived applications of each status in board order, with each status's total
+    List<BoardCard> findBoard(UUID userId, int perColumn);
+
+    // Next cards of one board column after the (boardRank, id) position, or from the top when boardRank is null
+    List<BoardCard> findBoardColumn(UUID userId, ApplicationEntity.Status status, String boardRank, UUID id,
+            int limit);
+
+    // Ids of one board column in board order, locked for the duration of the transaction
+    List<UUID> lockBoardColumn(UUID userId, ApplicationEntity.Status status);
+
+    void updateBoardRanks(Map<UUID, String> ranks);
+
+    // Archives up to limit REJECTED applications last updated before cutoff, for users who opted in.
+    // Must run in a transaction: the chunk is locked before it is updated
+    List<ArchivedApplication> archiveRejectedBefore(OffsetDateTime cutoff, OffsetDateTime now, int limit);
+
+    // columnCount is only filled in by findBoard
+    record BoardCard(ApplicationDTO application, String boardRank, long columnCount) {
+    }
+
+    record ArchivedApplication(UUID id, UUID userId) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.apptracker.repository;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.model.ApplicationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+
+    private static final String CARD_COLUMNS =
+            "id, company, role, location, status, date_applied, job_url, priority, archived, " +
+            "created_at, updated_at, board_rank";
+
+    // Ranks each status column with row_number() and counts it with a window COUNT in the same scan
+    private static final String BOARD_SQL =
+            "SELECT " + CARD_COLUMNS + ", column_count FROM (" +
+            "SELECT a.*, " +
+            "ROW_NUMBER() OVER (PARTITION BY a.status ORDER BY a.board_rank, a.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY a.status) AS column_count " +
+            "FROM applications a WHERE a.user_id = ? AND a.archived = false) ranked " +
+            "WHERE rn <= ? ORDER BY status, rn";
+
+    private static final String BOARD_COLUMN_SQL =
+            "SELECT " + CARD_COLUMNS + ", 0 FROM applications " +
+            "WHERE user_id = ? AND status = ? AND archived = false AND (board_rank, id) > (?, ?) " +
+            "ORDER BY board_rank, id LIMIT ?";
+
+    private static final String BOARD_COLUMN_FIRST_SQL =
+            "SELECT " + CARD_COLUMNS + ", 0 FROM applications " +
+            "WHERE user_id = ? AND status = ? AND archived = false " +
+            "ORDER BY board_rank, id LIMIT ?";
+
+    private static final String LOCK_BOARD_COLUMN_SQL =
+            "SELECT id FROM applications WHERE user_id = ? AND status = ? AND archived = false " +
+            "ORDER BY board_rank, id FOR UPDATE";
+
+    private static final String UPDATE_BOARD_RANK_SQL = "UPDATE applications SET board_rank = ? WHERE id = ?";
+
+    // One chunk is locked, then archived with a single UPDATE over the locked ids; archived rows drop
+    // out of the predicate, so repeating it walks the backlog. The opt-in check is a subquery so only
+    // application rows are locked
+    private static final String LOCK_REJECTED_SQL =
+            "SELECT id, user_id FROM applications " +
+            "WHERE status = 'REJECTED' AND archived = false AND updated_at < ? " +
+            "AND user_id IN (SELECT id FROM users WHERE auto_archive_old_apps = true) " +
+            "ORDER BY updated_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_BY_IDS_SQL =
+            "UPDATE applications SET archived = true, updated_at = ? WHERE id IN (%s)";
+
+    private static final RowMapper<BoardCard> BOARD_CARD_MAPPER = (rs, rowNum) -> {
+        String priority = rs.getString(8);
+        ApplicationDTO dto = new ApplicationDTO(
+                rs.getObject(1, UUID.class),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                ApplicationEntity.Status.valueOf(rs.getString(5)),
+                rs.getObject(6, OffsetDateTime.class),
+                rs.getString(7),
+                priority != null ? ApplicationEntity.Priority.valueOf(priority) : null,
+                rs.getBoolean(9),
+                rs.getObject(10, OffsetDateTime.class),
+                rs.getObject(11, OffsetDateTime.class));
+        return new BoardCard(dto, rs.getString(12), rs.getLong(13));
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApplicationRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Slice<ApplicationDTO> findSlice(Specification<ApplicationEntity> spec, Pageable pageable) {
+        List<ApplicationDTO> rows = findDtos(spec, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<ApplicationDTO> findDtos(Specification<ApplicationEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationDTO> query = cb.createQuery(ApplicationDTO.class);
+        Root<ApplicationEntity> root = query.from(ApplicationEntity.class);
+
+        query.select(cb.construct(ApplicationDTO.class,
+                root.get("id"),
+                root.get("company"),
+                root.get("role"),
+                root.get("location"),
+                root.get("status"),
+                root.get("dateApplied"),
+                root.get("jobUrl"),
+                root.get("priority"),
+                root.get("archived"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<ApplicationDTO> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult((int) offset);
+        typedQuery.setMaxResults(limit);
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<BoardCard> findBoard(UUID userId, int perColumn) {
+        return jdbcTemplate.query(BOARD_SQL, BOARD_CARD_MAPPER, userId, perColumn);
+    }
+
+    @Override
+    public List<BoardCard> findBoardColumn(UUID userId, ApplicationEntity.Status status, String boardRank, UUID id,
+            int limit) {
+        if (boardRank == null) {
+            return jdbcTemplate.query(BOARD_COLUMN_FIRST_SQL, BOARD_CARD_MAPPER, userId, status.name(), limit);
+        }
+        return jdbcTemplate.query(BOARD_COLUMN_SQL, BOARD_CARD_MAPPER, userId, status.name(), boardRank, id, limit);
+    }
+
+    @Override
+    public List<UUID> lockBoardColumn(UUID userId, ApplicationEntity.Status status) {
+        return jdbcTemplate.queryForList(LOCK_BOARD_COLUMN_SQL, UUID.class, userId, status.name());
+    }
+
+    @Override
+    public void updateBoardRanks(Map<UUID, String> ranks) {
+        jdbcTemplate.batchUpdate(UPDATE_BOARD_RANK_SQL, ranks.entrySet(), 500, (ps, entry) -> {
+            ps.setString(1, entry.getValue());
+            ps.setObject(2, entry.getKey());
+        });
+    }
+
+    @Override
+    public List<ArchivedApplication> archiveRejectedBefore(OffsetDateTime cutoff, OffsetDateTime now, int limit) {
+        List<ArchivedApplication> locked = jdbcTemplate.query(LOCK_REJECTED_SQL, (rs, rowNum) ->
+                new ArchivedApplication(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)), cutoff, limit);
+        if (locked.isEmpty()) {
+            return locked;
+        }
+        Object[] args = new Object[locked.size() + 1];
+        args[0] = now;
+        for (int i = 0; i < locked.size(); i++) {
+            args[i + 1] = locked.get(i).id();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(locked.size(), "?"));
+        jdbcTemplate.update(String.format(ARCHIVE_BY_IDS_SQL, placeholders), args);
+        return locked;
+    }
+}
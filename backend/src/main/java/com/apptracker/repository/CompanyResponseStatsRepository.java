@@ -0,0 +1,111 @@
+package com.apptracker.repository;
+
+import com.apptracker.dto.CompanyResponseRateDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access for the nightly company response-rate job: chunked reads of
+ * applications by user id range, and wholesale replacement of the
+ * company_response_stats table.
+ */
+@Repository
+public class CompanyResponseStatsRepository {
+
+    private static final String NEXT_USER_IDS_SQL =
+            "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    // Applications still in SAVED were never sent, so they are excluded from every rate
+    private static final String AGGREGATE_CHUNK_SQL =
+            "SELECT LOWER(TRIM(a.company)), MIN(TRIM(a.company)), COUNT(*), COUNT(DISTINCT a.user_id), " +
+            "SUM(CASE WHEN a.status IN ('OA', 'INTERVIEW', 'OFFER', 'REJECTED') THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status IN ('INTERVIEW', 'OFFER') THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'OFFER' THEN 1 ELSE 0 END) " +
+            "FROM applications a WHERE a.user_id > ? AND a.user_id <= ? AND a.status <> 'SAVED' " +
+            "GROUP BY LOWER(TRIM(a.company))";
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM company_response_stats";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO company_response_stats (company_key, company, applications, users, responses, " +
+            "interviews, offers, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_ALL_SQL =
+            "SELECT company, applications, responses, interviews, offers, computed_at " +
+            "FROM company_response_stats ORDER BY applications DESC, company_key";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CompanyResponseStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Next page of user ids in id order, used to cut applications into chunks
+     */
+    public List<UUID> findUserIdsAfter(UUID after, int limit) {
+        return jdbcTemplate.queryForList(NEXT_USER_IDS_SQL, UUID.class, after, limit);
+    }
+
+    /**
+     * Per-company totals over the applications of users with ids in (lower, upper]
+     */
+    public List<CompanyStatsRow> aggregateUserRange(UUID lowerExclusive, UUID upperInclusive) {
+        return jdbcTemplate.query(AGGREGATE_CHUNK_SQL, (rs, rowNum) -> new CompanyStatsRow(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getLong(5),
+                rs.getLong(6),
+                rs.getLong(7)), lowerExclusive, upperInclusive);
+    }
+
+    @Transactional
+    public void replaceAll(List<CompanyStatsRow> rows, OffsetDateTime computedAt) {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, 500, (ps, row) -> {
+            ps.setString(1, row.companyKey());
+            ps.setString(2, row.company());
+            ps.setLong(3, row.applications());
+            ps.setLong(4, row.users());
+            ps.setLong(5, row.responses());
+            ps.setLong(6, row.interviews());
+            ps.setLong(7, row.offers());
+            ps.setObject(8, computedAt);
+        });
+    }
+
+    public List<CompanyResponseRateDTO> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new CompanyResponseRateDTO(
+                rs.getString(1),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getLong(5),
+                rs.getObject(6, OffsetDateTime.class)));
+    }
+
+    public record CompanyStatsRow(String companyKey, String company, long applications, long users,
+            long responses, long interviews, long offers) {
+
+        /**
+         * Combines totals from disjoint user ranges; distinct user counts add up
+         * because a user's applications always fall in exactly one range
+         */
+        public CompanyStatsRow merge(CompanyStatsRow other) {
+            String name = company.compareTo(other.company) <= 0 ? company : other.company;
+            return new CompanyStatsRow(companyKey, name,
+                    applications + other.applications,
+                    users + other.users,
+                    responses + other.responses,
+                    interviews + other.interviews,
+                    offers + other.offers);
+        }
+    }
+}
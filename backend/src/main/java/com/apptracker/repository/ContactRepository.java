@@ -2,6 +2,8 @@ package com.apptracker.repository;
 
 import com.apptracker.model.Contact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,8 @@ import java.util.UUID;
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, UUID> {
     List<Contact> findByApplicationIdOrderByCreatedAtDesc(UUID applicationId);
+
+    @Query("SELECT c FROM Contact c WHERE c.applicationId IN " +
+           "(SELECT app.id FROM ApplicationEntity app WHERE app.userId = :userId)")
+    List<Contact> findAllByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,71 @@
+package com.apptracker.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * JDBC access to scheduled_job_locks. Acquiring a lease is a single
+ * conditional UPDATE, so of several nodes racing for an expired lease exactly
+ * one sees its row count come back as 1.
+ *
+ * Lease times come from the database clock (CURRENT_TIMESTAMP), never the
+ * node's, so clock skew between replicas cannot make a lease look expired
+ * early or let one outlive its lockAtMost.
+ */
+@Repository
+public class JobLockRepository {
+
+    private static final String SECONDS_FROM_NOW =
+            "CURRENT_TIMESTAMP + CAST(? AS DOUBLE PRECISION) * INTERVAL '1' SECOND";
+
+    private static final String TAKE_OVER_SQL =
+            "UPDATE scheduled_job_locks SET locked_by = ?, locked_at = CURRENT_TIMESTAMP, " +
+            "lock_until = " + SECONDS_FROM_NOW + " WHERE name = ? AND lock_until <= CURRENT_TIMESTAMP";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduled_job_locks (name, locked_by, locked_at, lock_until) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP, " + SECONDS_FROM_NOW + ")";
+
+    // Keeps the lease until at least locked_at + minHold, or ends it now if that has passed
+    private static final String RELEASE_SQL =
+            "UPDATE scheduled_job_locks SET lock_until = GREATEST(CURRENT_TIMESTAMP, " +
+            "locked_at + CAST(? AS DOUBLE PRECISION) * INTERVAL '1' SECOND) WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobLockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Takes the lease on {@code name} for {@code lockAtMost} if nobody holds
+     * it. The first acquisition of a name inserts its row; a concurrent insert
+     * losing on the primary key counts as not acquired.
+     */
+    public boolean tryAcquire(String name, String owner, Duration lockAtMost) {
+        double seconds = toSeconds(lockAtMost);
+        if (jdbcTemplate.update(TAKE_OVER_SQL, owner, seconds, name) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, seconds) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Ends the lease once {@code minHold} after acquisition has passed, only
+     * if {@code owner} still holds it
+     */
+    public void release(String name, String owner, Duration minHold) {
+        jdbcTemplate.update(RELEASE_SQL, toSeconds(minHold), name, owner);
+    }
+
+    private static double toSeconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
@@ -2,6 +2,8 @@ package com.apptracker.repository;
 
 import com.apptracker.model.Note;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,8 @@ import java.util.UUID;
 @Repository
 public interface NoteRepository extends JpaRepository<Note, UUID> {
     List<Note> findByApplicationIdOrderByCreatedAtDesc(UUID applicationId);
+
+    @Query("SELECT n FROM Note n WHERE n.applicationId IN " +
+           "(SELECT app.id FROM ApplicationEntity app WHERE app.userId = :userId)")
+    List<Note> findAllByUserId(@Param("userId") UUID userId);
 }
@@ -2,7 +2,11 @@ package com.apptracker.repository;
 
 import com.apptracker.model.PasswordResetToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -14,4 +18,18 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     Optional<PasswordResetToken> findByTokenHash(String tokenHash);
 
     List<PasswordResetToken> findByUserIdAndUsedFalseAndExpiresAtAfter(UUID userId, OffsetDateTime now);
+
+    // Purge chunks, each committed on its own; the expired one walks idx_password_reset_tokens_expires_at
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_tokens WHERE id IN (" +
+            "SELECT id FROM password_reset_tokens WHERE expires_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_tokens WHERE id IN (" +
+            "SELECT id FROM password_reset_tokens WHERE used = true AND created_at < :cutoff LIMIT :limit)",
+            nativeQuery = true)
+    int deleteUsedBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
 }
@@ -1,6 +1,8 @@
 package com.apptracker.repository;
 
+import com.apptracker.dto.DashboardReminderDTO;
 import com.apptracker.model.Reminder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,10 @@ public interface ReminderRepository extends JpaRepository<Reminder, UUID> {
             "WHERE a.userId = :userId AND r.completed = false " +
             "ORDER BY r.remindAt ASC")
     List<Reminder> findAllIncompleteRemindersByUser(@Param("userId") UUID userId);
+
+    // Earliest incomplete reminders (overdue first) with the owning application's company and role
+    @Query("SELECT new com.apptracker.dto.DashboardReminderDTO(r.id, r.applicationId, a.company, a.role, " +
+            "r.remindAt, r.message) FROM Reminder r JOIN ApplicationEntity a ON r.applicationId = a.id " +
+            "WHERE a.userId = :userId AND r.completed = false ORDER BY r.remindAt ASC")
+    List<DashboardReminderDTO> findUpcomingForDashboard(@Param("userId") UUID userId, Pageable pageable);
 }
@@ -0,0 +1,107 @@
+package com.apptracker.repository;
+
+import com.apptracker.model.ApplicationEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC access to user_application_stats, which has no entity: rows are only
+ * ever adjusted in place with delta updates or rebuilt from applications.
+ */
+@Repository
+public class UserApplicationStatsRepository {
+
+    // Deltas are applied as ensure-row then increment; both statements also run on H2,
+    // which has no ON CONFLICT DO UPDATE
+    private static final String ENSURE_ROW_SQL =
+            "INSERT INTO user_application_stats (user_id, status, app_count) VALUES (?, ?, 0) " +
+            "ON CONFLICT DO NOTHING";
+
+    private static final String ADD_DELTA_SQL =
+            "UPDATE user_application_stats SET app_count = app_count + ? WHERE user_id = ? AND status = ?";
+
+    private static final String FIND_COUNTS_SQL =
+            "SELECT status, app_count FROM user_application_stats WHERE user_id = ? AND app_count <> 0";
+
+    // Users whose stored counters disagree with the applications table for any status:
+    // counters that are off or have no applications behind them, then (user, status)
+    // pairs with applications but no counter
+    private static final String FIND_DRIFTED_USERS_SQL =
+            "SELECT s.user_id FROM user_application_stats s " +
+            "LEFT JOIN (SELECT user_id, status, COUNT(*) AS cnt FROM applications GROUP BY user_id, status) c " +
+            "ON s.user_id = c.user_id AND s.status = c.status " +
+            "WHERE s.app_count <> COALESCE(c.cnt, 0) " +
+            "UNION " +
+            "SELECT c.user_id FROM (SELECT user_id, status, COUNT(*) AS cnt FROM applications " +
+            "GROUP BY user_id, status) c " +
+            "LEFT JOIN user_application_stats s ON s.user_id = c.user_id AND s.status = c.status " +
+            "WHERE s.user_id IS NULL";
+
+    private static final String ENSURE_USER_ROWS_SQL =
+            "INSERT INTO user_application_stats (user_id, status, app_count) " +
+            "SELECT DISTINCT user_id, status, 0 FROM applications WHERE user_id = ? " +
+            "ON CONFLICT DO NOTHING";
+
+    private static final String RECOUNT_USER_SQL =
+            "UPDATE user_application_stats s SET app_count = (SELECT COUNT(*) FROM applications a " +
+            "WHERE a.user_id = s.user_id AND a.status = s.status) WHERE s.user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserApplicationStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds each delta to the user's counter for that status, creating missing
+     * rows. Runs in the caller's transaction.
+     */
+    public void applyDeltas(UUID userId, Map<ApplicationEntity.Status, Long> deltas) {
+        List<Map.Entry<ApplicationEntity.Status, Long>> changes = new ArrayList<>();
+        for (Map.Entry<ApplicationEntity.Status, Long> entry : deltas.entrySet()) {
+            if (entry.getValue() != 0) {
+                changes.add(entry);
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ENSURE_ROW_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setObject(1, userId);
+            ps.setString(2, change.getKey().name());
+        });
+        jdbcTemplate.batchUpdate(ADD_DELTA_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.getValue());
+            ps.setObject(2, userId);
+            ps.setString(3, change.getKey().name());
+        });
+    }
+
+    public Map<ApplicationEntity.Status, Long> findCounts(UUID userId) {
+        Map<ApplicationEntity.Status, Long> counts = new EnumMap<>(ApplicationEntity.Status.class);
+        jdbcTemplate.query(FIND_COUNTS_SQL, rs -> {
+            counts.put(ApplicationEntity.Status.valueOf(rs.getString(1)), rs.getLong(2));
+        }, userId);
+        return counts;
+    }
+
+    public List<UUID> findDriftedUserIds() {
+        return jdbcTemplate.queryForList(FIND_DRIFTED_USERS_SQL, UUID.class);
+    }
+
+    /**
+     * Replaces the user's counters with fresh counts from the applications table
+     */
+    @Transactional
+    public void rebuild(UUID userId) {
+        jdbcTemplate.update(ENSURE_USER_ROWS_SQL, userId);
+        jdbcTemplate.update(RECOUNT_USER_SQL, userId);
+    }
+}
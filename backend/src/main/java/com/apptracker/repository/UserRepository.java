@@ -2,6 +2,10 @@ package com.apptracker.repository;
 
 import com.apptracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -11,5 +15,22 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
-    List<User> findByEmailVerifiedFalseAndCreatedAtBefore(OffsetDateTime cutoffDateTime);
+    @Query(value = "SELECT id FROM users WHERE email_verified = false AND created_at < :cutoff " +
+            "ORDER BY created_at LIMIT :limit", nativeQuery = true)
+    List<UUID> findUnverifiedIdsBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    // One chunk per call, committed on its own; child rows go through ON DELETE CASCADE.
+    // Re-checks the flag so a user who verified since the lookup is kept.
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id IN (:ids) AND email_verified = false", nativeQuery = true)
+    int deleteUnverifiedByIds(@Param("ids") List<UUID> ids);
+
+    @Query(value = "SELECT change_version FROM users WHERE id = :userId", nativeQuery = true)
+    Optional<Long> findChangeVersion(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET change_version = change_version + 1 WHERE id = :userId", nativeQuery = true)
+    int incrementChangeVersion(@Param("userId") UUID userId);
 }
@@ -1,8 +1,13 @@
 package com.apptracker.repository;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.apptracker.model.EmailVerificationToken;
 
@@ -10,4 +15,19 @@ public interface VerifyEmailTokenRepository extends JpaRepository<EmailVerificat
     EmailVerificationToken findByToken(String token);
     EmailVerificationToken findByUserId(UUID userId);
     void deleteByUserId(UUID userId);
+
+    // Purge chunks, each committed on its own. The expired one walks idx_email_verification_tokens_expires_at
+    // and skips verified tokens, which are kept as an audit trail until their own cutoff
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM email_verification_tokens WHERE id IN (" +
+            "SELECT id FROM email_verification_tokens WHERE expires_at < :cutoff AND verified_at IS NULL " +
+            "LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM email_verification_tokens WHERE id IN (" +
+            "SELECT id FROM email_verification_tokens WHERE verified_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteVerifiedBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
 }
@@ -3,6 +3,7 @@ package com.apptracker.service;
 import com.apptracker.model.Activity;
 import com.apptracker.repository.ActivityRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -11,16 +12,17 @@ import java.util.UUID;
 public class ActivityService {
 
     private final ActivityRepository activityRepository;
-    private final ApplicationService applicationService;
+    private final OwnershipService ownershipService;
 
-    public ActivityService(ActivityRepository activityRepository, ApplicationService applicationService) {
+    public ActivityService(ActivityRepository activityRepository, OwnershipService ownershipService) {
         this.activityRepository = activityRepository;
-        this.applicationService = applicationService;
+        this.ownershipService = ownershipService;
     }
 
+    @Transactional(readOnly = true)
     public List<Activity> getActivity(UUID userId, UUID appId) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         return activityRepository.findByApplicationIdOrderByCreatedAtDesc(appId);
     }
 }
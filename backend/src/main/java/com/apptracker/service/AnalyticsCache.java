@@ -0,0 +1,127 @@
+package com.apptracker.service;
+
+import com.apptracker.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches the computed analytics map per user. Entries expire after a short
+ * TTL and the least recently used user is evicted once the cache is full; any
+ * write to a user's applications evicts that user immediately.
+ *
+ * Like ApplicationCountCache, each entry is tagged with the users.change_version
+ * read before it was computed and is only served while that version is
+ * current. Analytics computed by a reader that raced a write are therefore
+ * never served once the write commits, and writes on other replicas, which
+ * never reach this node's invalidate, still retire its entries.
+ *
+ * Hits, misses and evictions are published as the analytics.cache.* meters;
+ * evictions are tagged with their cause: invalidated by a write (locally or
+ * seen as a newer version), expired after the TTL, or dropped to make room
+ * (size).
+ */
+@Component
+public class AnalyticsCache {
+
+    private final ChangeVersionService changeVersionService;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final Counter expirations;
+    private final Counter sizeEvictions;
+
+    public AnalyticsCache(ChangeVersionService changeVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.analytics.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.cache.analytics.max-entries:5000}") int maxEntries) {
+        this.changeVersionService = changeVersionService;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+
+        this.hits = meterRegistry.counter("analytics.cache.hits");
+        this.misses = meterRegistry.counter("analytics.cache.misses");
+        this.invalidations = meterRegistry.counter("analytics.cache.evictions", "cause", "invalidated");
+        this.expirations = meterRegistry.counter("analytics.cache.evictions", "cause", "expired");
+        this.sizeEvictions = meterRegistry.counter("analytics.cache.evictions", "cause", "size");
+        Gauge.builder("analytics.cache.size", this, AnalyticsCache::size).register(meterRegistry);
+    }
+
+    public Map<String, Object> get(UUID userId, Supplier<Map<String, Object>> loader) {
+        // Read before computing: a write committing in between leaves the entry tagged stale
+        long version = changeVersionService.currentVersion(userId);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.version == version && entry.expiresAt > now) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null && entry.version < version) {
+                entries.remove(userId);
+                invalidations.increment();
+            } else if (entry != null && entry.expiresAt <= now) {
+                entries.remove(userId);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        Map<String, Object> value = loader.get();
+
+        synchronized (entries) {
+            Entry current = entries.get(userId);
+            if (current != null && current.version > version) {
+                // A newer reader already cached analytics for a later version
+                return value;
+            }
+            entries.put(userId, new Entry(value, version, now + ttlMillis));
+            while (entries.size() > maxEntries) {
+                UUID eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                sizeEvictions.increment();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the user's entry, immediately and again once the current
+     * transaction commits. Stale results are already unreachable once the
+     * write's version bump commits; this frees them early.
+     */
+    public void invalidate(UUID userId) {
+        evict(userId);
+        TransactionUtils.afterCommit(() -> evict(userId));
+    }
+
+    private void evict(UUID userId) {
+        synchronized (entries) {
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(Map<String, Object> value, long version, long expiresAt) {
+    }
+}
@@ -1,46 +1,50 @@
 package com.apptracker.service;
 
-import java.time.DayOfWeek;
 import java.time.OffsetDateTime;
-import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import com.apptracker.model.ApplicationEntity;
+import com.apptracker.dto.HistogramDTO;
+import com.apptracker.exception.BadRequestException;
 import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.util.TimeHistogram;
 
 @Service
 public class AnalyticsService {
+    private static final int WEEKS = 12;
+    private static final int DEFAULT_BUCKETS = 12;
+    private static final int MAX_BUCKETS = 1000;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
     private final ApplicationRepository applicationRepository;
+    private final ApplicationStatsService statsService;
+    private final AnalyticsCache analyticsCache;
 
-    public AnalyticsService(ApplicationRepository applicationRepository) {
+    public AnalyticsService(ApplicationRepository applicationRepository, ApplicationStatsService statsService,
+            AnalyticsCache analyticsCache) {
         this.applicationRepository = applicationRepository;
+        this.statsService = statsService;
+        this.analyticsCache = analyticsCache;
     }
 
     public Map<String, Object> getAnalytics(UUID userId) {
+        return analyticsCache.get(userId, () -> computeAnalytics(userId));
+    }
 
-        List<ApplicationEntity> allApps = applicationRepository.findAll()
-                .stream()
-                .filter(app -> app.getUserId().equals(userId))
-                .collect(Collectors.toList());
+    private Map<String, Object> computeAnalytics(UUID userId) {
 
         Map<String, Object> analytics = new HashMap<>();
 
-        // Total counts by status
-        Map<String, Long> statusCounts = allApps.stream()
-                .collect(Collectors.groupingBy(
-                        app -> app.getStatus().name(),
-                        Collectors.counting()));
+        // Total counts by status, read from the incrementally maintained counters
+        Map<String, Long> statusCounts = statsService.getStatusCounts(userId);
         analytics.put("statusCounts", statusCounts);
 
         // Applications per week (last 12 weeks)
-        Map<String, Long> appsPerWeek = calculateAppsPerWeek(allApps);
+        Map<String, Long> appsPerWeek = calculateAppsPerWeek(userId);
         analytics.put("appsPerWeek", appsPerWeek);
 
         // Conversion rates
@@ -61,26 +65,73 @@ public class AnalyticsService {
         return analytics;
     }
 
-    private Map<String, Long> calculateAppsPerWeek(List<ApplicationEntity> apps) {
-        OffsetDateTime twelveWeeksAgo = OffsetDateTime.now().minusWeeks(12)
-                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-
-        Map<String, Long> weeklyCount = new LinkedHashMap<>();
+    /**
+     * Applications per bucket of date_applied over [from, to). Defaults to the
+     * last 12 buckets of the requested granularity.
+     */
+    public HistogramDTO getAppliedHistogram(UUID userId, String granularity, OffsetDateTime from,
+            OffsetDateTime to) {
+        TimeHistogram.Granularity unit = parseGranularity(granularity);
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+
+        TimeHistogram histogram;
+        try {
+            histogram = from != null
+                    ? TimeHistogram.covering(unit, from, end, MAX_BUCKETS)
+                    : TimeHistogram.lastBuckets(unit, end, DEFAULT_BUCKETS);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        fillAppliedHistogram(userId, histogram);
 
-        for (int i = 0; i < 12; i++) {
-            OffsetDateTime weekStart = twelveWeeksAgo.plusWeeks(i);
-            OffsetDateTime weekEnd = weekStart.plusWeeks(1);
+        HistogramDTO dto = new HistogramDTO(unit.name());
+        for (int i = 0; i < histogram.size(); i++) {
+            dto.addBucket(histogram.bucketStart(i), histogram.getCount(i));
+        }
+        return dto;
+    }
 
-            long count = apps.stream()
-                    .filter(app -> app.getDateApplied() != null)
-                    .filter(app -> !app.getDateApplied().isBefore(weekStart) && app.getDateApplied().isBefore(weekEnd))
-                    .count();
+    private Map<String, Long> calculateAppsPerWeek(UUID userId) {
+        OffsetDateTime twelveWeeksAgo = OffsetDateTime.now().minusWeeks(WEEKS);
+        OffsetDateTime weekStart = TimeHistogram.alignToBucket(TimeHistogram.Granularity.WEEK, twelveWeeksAgo);
+        TimeHistogram histogram = TimeHistogram.covering(TimeHistogram.Granularity.WEEK,
+                weekStart, weekStart.plusWeeks(WEEKS), WEEKS);
+        fillAppliedHistogram(userId, histogram);
 
+        Map<String, Long> weeklyCount = new LinkedHashMap<>();
+        for (int i = 0; i < histogram.size(); i++) {
+            OffsetDateTime bucketStart = histogram.bucketStart(i);
             String weekLabel = String.format("Week of %02d/%02d",
-                    weekStart.getMonthValue(), weekStart.getDayOfMonth());
-            weeklyCount.put(weekLabel, count);
+                    bucketStart.getMonthValue(), bucketStart.getDayOfMonth());
+            weeklyCount.put(weekLabel, histogram.getCount(i));
         }
 
         return weeklyCount;
     }
+
+    /**
+     * The database returns one row per non-empty day in the histogram's range;
+     * days are folded into the histogram's buckets in a single pass. Day
+     * boundaries are computed here and passed in, so they fall at midnight in the
+     * histogram's offset regardless of the database time zone.
+     */
+    private void fillAppliedHistogram(UUID userId, TimeHistogram histogram) {
+        OffsetDateTime start = histogram.getStart();
+        for (Object[] row : applicationRepository.countAppliedByBucket(userId, start, histogram.getEnd(),
+                start.toEpochSecond(), SECONDS_PER_DAY)) {
+            long day = ((Number) row[0]).longValue();
+            histogram.add(start.plusDays(day), ((Number) row[1]).longValue());
+        }
+    }
+
+    private static TimeHistogram.Granularity parseGranularity(String granularity) {
+        if (granularity == null || granularity.isBlank()) {
+            return TimeHistogram.Granularity.WEEK;
+        }
+        try {
+            return TimeHistogram.Granularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid granularity: " + granularity + " (expected day, week or month)");
+        }
+    }
 }
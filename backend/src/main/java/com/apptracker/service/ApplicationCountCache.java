@@ -0,0 +1,112 @@
+package com.apptracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the total row count of the application list per user and per filter
+ * combination, so paged responses can report totals without issuing a COUNT
+ * query on every request.
+ *
+ * A user's totals are tagged with the users.change_version read before they
+ * were computed and are only served while that version is current, so a count
+ * re-cached by a reader that raced a write is never returned once the write
+ * commits, and replicas never serve each other's stale totals. Entries also
+ * expire after a short TTL, and least recently used users and filters are
+ * evicted once the caps are reached.
+ */
+@Component
+public class ApplicationCountCache {
+
+    private final ChangeVersionService changeVersionService;
+    private final long ttlMillis;
+    private final int maxUsers;
+    private final int maxFiltersPerUser;
+
+    // Access-ordered so iteration starts at the least recently used user
+    private final LinkedHashMap<UUID, UserCounts> countsByUser = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ApplicationCountCache(ChangeVersionService changeVersionService,
+            @Value("${app.cache.app-counts.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.cache.app-counts.max-users:10000}") int maxUsers,
+            @Value("${app.cache.app-counts.max-filters-per-user:64}") int maxFiltersPerUser) {
+        this.changeVersionService = changeVersionService;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxUsers = maxUsers;
+        this.maxFiltersPerUser = maxFiltersPerUser;
+    }
+
+    public long getCount(UUID userId, String status, String query,
+            OffsetDateTime from, OffsetDateTime to, LongSupplier loader) {
+        String key = filterKey(status, query, from, to);
+        // Read before counting: a write committing in between leaves the entry tagged stale
+        long version = changeVersionService.currentVersion(userId);
+        long now = System.currentTimeMillis();
+
+        synchronized (countsByUser) {
+            UserCounts userCounts = countsByUser.get(userId);
+            if (userCounts != null && userCounts.version == version) {
+                Entry cached = userCounts.entries.get(key);
+                if (cached != null && cached.expiresAt > now) {
+                    return cached.count;
+                }
+            }
+        }
+
+        long count = loader.getAsLong();
+
+        synchronized (countsByUser) {
+            UserCounts userCounts = countsByUser.get(userId);
+            if (userCounts == null || userCounts.version < version) {
+                userCounts = new UserCounts(version);
+                countsByUser.put(userId, userCounts);
+            } else if (userCounts.version > version) {
+                // A newer reader already cached totals for a later version
+                return count;
+            }
+            userCounts.entries.put(key, new Entry(count, now + ttlMillis));
+            while (userCounts.entries.size() > maxFiltersPerUser) {
+                userCounts.entries.remove(userCounts.entries.keySet().iterator().next());
+            }
+            while (countsByUser.size() > maxUsers) {
+                countsByUser.remove(countsByUser.keySet().iterator().next());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops every cached total for the user. Stale totals are already
+     * unreachable once the write's version bump commits; this frees them early.
+     */
+    public void invalidate(UUID userId) {
+        synchronized (countsByUser) {
+            countsByUser.remove(userId);
+        }
+    }
+
+    private String filterKey(String status, String query, OffsetDateTime from, OffsetDateTime to) {
+        return (status == null ? "" : status) + '\u0000'
+                + (query == null ? "" : query.toLowerCase()) + '\u0000'
+                + (from == null ? "" : from.toInstant()) + '\u0000'
+                + (to == null ? "" : to.toInstant());
+    }
+
+    private static final class UserCounts {
+        private final long version;
+        // Access-ordered so iteration starts at the least recently used filter
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private UserCounts(long version) {
+            this.version = version;
+        }
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
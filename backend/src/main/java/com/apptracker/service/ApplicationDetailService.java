@@ -0,0 +1,56 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.dto.ApplicationDetailDTO;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.AttachmentRepository;
+import com.apptracker.repository.ContactRepository;
+import com.apptracker.repository.NoteRepository;
+import com.apptracker.repository.ReminderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Builds the full application detail view in one request: one ownership-checked
+ * application lookup followed by one indexed query per child table.
+ */
+@Service
+public class ApplicationDetailService {
+
+    private final ApplicationService applicationService;
+    private final NoteRepository noteRepository;
+    private final ContactRepository contactRepository;
+    private final ReminderRepository reminderRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ActivityRepository activityRepository;
+
+    public ApplicationDetailService(ApplicationService applicationService,
+            NoteRepository noteRepository,
+            ContactRepository contactRepository,
+            ReminderRepository reminderRepository,
+            AttachmentRepository attachmentRepository,
+            ActivityRepository activityRepository) {
+        this.applicationService = applicationService;
+        this.noteRepository = noteRepository;
+        this.contactRepository = contactRepository;
+        this.reminderRepository = reminderRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.activityRepository = activityRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationDetailDTO getApplicationDetail(UUID userId, UUID appId) {
+        // Verify ownership once; the child queries below are all scoped to this app id
+        ApplicationDTO application = applicationService.getApplicationById(userId, appId);
+
+        return new ApplicationDetailDTO(
+                application,
+                noteRepository.findByApplicationIdOrderByCreatedAtDesc(appId),
+                contactRepository.findByApplicationIdOrderByCreatedAtDesc(appId),
+                reminderRepository.findByApplicationIdOrderByRemindAtAsc(appId),
+                attachmentRepository.findByApplicationIdOrderByUploadedAtDesc(appId),
+                activityRepository.findByApplicationIdOrderByCreatedAtDesc(appId));
+    }
+}
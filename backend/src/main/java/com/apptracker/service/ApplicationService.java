@@ -1,35 +1,94 @@
 package com.apptracker.service;
 
 import com.apptracker.dto.*;
+import com.apptracker.exception.BadRequestException;
 import com.apptracker.exception.ResourceNotFoundException;
 import com.apptracker.exception.UnauthorizedException;
 import com.apptracker.model.ApplicationEntity;
 import com.apptracker.model.Activity;
 import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.repository.ApplicationRepositoryCustom;
 import com.apptracker.repository.ActivityRepository;
+import com.apptracker.util.CursorUtils;
+import com.apptracker.util.SearchTokenizer;
+import com.apptracker.util.StatusChangeMessage;
+import com.apptracker.util.TransactionUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.criteria.Predicate;
 
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final ActivityRepository activityRepository;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationCountCache countCache;
+    private final OwnershipService ownershipService;
+    private final ChangeVersionService changeVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationStatsService statsService;
+    private final AnalyticsCache analyticsCache;
+    private final BoardRankService boardRankService;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_FALLBACK_CANDIDATES = 1000;
+    private static final int MAX_BULK_IDS = 500;
+    private static final int MAX_BOARD_CARDS = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private final DataSource dataSource;
+
+    // Resolved from the connection metadata on first search
+    private volatile Boolean fullTextSearchAvailable;
 
     public ApplicationService(ApplicationRepository applicationRepository,
-            ActivityRepository activityRepository) {
+            ActivityRepository activityRepository,
+            SearchIndexService searchIndexService,
+            ApplicationCountCache countCache,
+            OwnershipService ownershipService,
+            ChangeVersionService changeVersionService,
+            ChangeFeedService changeFeedService,
+            ApplicationStatsService statsService,
+            AnalyticsCache analyticsCache,
+            BoardRankService boardRankService,
+            DataSource dataSource) {
         this.applicationRepository = applicationRepository;
         this.activityRepository = activityRepository;
+        this.searchIndexService = searchIndexService;
+        this.countCache = countCache;
+        this.ownershipService = ownershipService;
+        this.changeVersionService = changeVersionService;
+        this.changeFeedService = changeFeedService;
+        this.statsService = statsService;
+        this.analyticsCache = analyticsCache;
+        this.boardRankService = boardRankService;
+        this.dataSource = dataSource;
     }
 
     @Transactional
@@ -48,21 +107,244 @@ public class ApplicationService {
         if (request.getStatus() != null) {
             app.setStatus(ApplicationEntity.Status.valueOf(request.getStatus()));
         }
+        app.setBoardRank(boardRankService.topOf(userId, app.getStatus()));
 
         ApplicationEntity saved = applicationRepository.save(app);
+        statsService.recordChange(userId, null, saved.getStatus());
 
         // Log activity
         logActivity(saved.getId(), Activity.ActivityType.CREATED,
                 String.format("Application created for %s at %s", request.getRole(), request.getCompany()));
 
+        searchIndexService.indexApplication(saved);
+        countCache.invalidate(userId);
+        analyticsCache.invalidate(userId);
+        long version = changeVersionService.bump(userId);
+        changeFeedService.publish(userId, saved.getId(), ApplicationChangeEvent.Type.CREATED, version);
+
         return new ApplicationDTO(saved);
     }
 
+    @Transactional(readOnly = true)
     public Page<ApplicationDTO> getApplications(UUID userId, String status, String query,
             OffsetDateTime from, OffsetDateTime to,
             Pageable pageable) {
+        Specification<ApplicationEntity> spec = buildFilterSpec(userId, status, query, from, to);
+        Slice<ApplicationDTO> slice = applicationRepository.findSlice(spec, pageable);
+        long total = countCache.getCount(userId, status, query, from, to,
+                () -> applicationRepository.count(spec));
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    /**
+     * Same filtering as {@link #getApplications} but never counts; the response
+     * only reports whether a next page exists.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ApplicationDTO> getApplicationsSlice(UUID userId, String status, String query,
+            OffsetDateTime from, OffsetDateTime to,
+            Pageable pageable) {
+        Specification<ApplicationEntity> spec = buildFilterSpec(userId, status, query, from, to);
+        return applicationRepository.findSlice(spec, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long countApplications(UUID userId, String status, String query,
+            OffsetDateTime from, OffsetDateTime to) {
+        Specification<ApplicationEntity> spec = buildFilterSpec(userId, status, query, from, to);
+        return countCache.getCount(userId, status, query, from, to,
+                () -> applicationRepository.count(spec));
+    }
+
+    /**
+     * Keyset (cursor) variant of {@link #getApplications}. Seeks past the
+     * (createdAt, id) position encoded in the cursor instead of using an OFFSET,
+     * and fetches one extra row to detect a next page so no count query is run.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDTO> getApplicationsAfter(UUID userId, String status, String query,
+            OffsetDateTime from, OffsetDateTime to,
+            String after, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        Specification<ApplicationEntity> spec = buildFilterSpec(userId, status, query, from, to);
+
+        if (after != null && !after.isEmpty()) {
+            CursorUtils.Cursor cursor = CursorUtils.decode(after);
+            spec = spec.and((root, criteriaQuery, cb) -> cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                            cb.lessThan(root.get("id"), cursor.getId()))));
+        }
+
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<ApplicationDTO> rows = applicationRepository.findDtos(spec, sort, 0, size + 1);
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ApplicationDTO last = rows.get(size - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPage<>(rows, nextCursor, size);
+    }
+
+    /**
+     * Kanban board: every status column with its total and first cards, from a
+     * single window-function query. Each column's nextCursor continues it
+     * through {@link #getBoardColumn}.
+     */
+    @Transactional(readOnly = true)
+    public List<BoardColumnDTO> getBoard(UUID userId, int perColumn) {
+        if (perColumn < 1 || perColumn > MAX_BOARD_CARDS) {
+            throw new BadRequestException("Cards per column must be between 1 and " + MAX_BOARD_CARDS);
+        }
+
+        Map<ApplicationEntity.Status, BoardColumnDTO> columns = new EnumMap<>(ApplicationEntity.Status.class);
+        for (ApplicationEntity.Status status : ApplicationEntity.Status.values()) {
+            columns.put(status, new BoardColumnDTO(status.name()));
+        }
+
+        Map<ApplicationEntity.Status, ApplicationRepositoryCustom.BoardCard> lastCards =
+                new EnumMap<>(ApplicationEntity.Status.class);
+        for (ApplicationRepositoryCustom.BoardCard card : applicationRepository.findBoard(userId, perColumn)) {
+            ApplicationEntity.Status status = ApplicationEntity.Status.valueOf(card.application().getStatus());
+            BoardColumnDTO column = columns.get(status);
+            column.getCards().add(card.application());
+            column.setCount(card.columnCount());
+            lastCards.put(status, card);
+        }
+
+        for (Map.Entry<ApplicationEntity.Status, BoardColumnDTO> entry : columns.entrySet()) {
+            BoardColumnDTO column = entry.getValue();
+            if (column.getCount() > column.getCards().size()) {
+                ApplicationRepositoryCustom.BoardCard last = lastCards.get(entry.getKey());
+                column.setNextCursor(CursorUtils.encodeRank(last.boardRank(), last.application().getId()));
+            }
+        }
+        return new ArrayList<>(columns.values());
+    }
+
+    // "Load more" for one board column; same (boardRank, id) keyset order as the board query
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDTO> getBoardColumn(UUID userId, String status, String after, int size) {
+        if (size < 1 || size > MAX_BOARD_CARDS) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_BOARD_CARDS);
+        }
+        ApplicationEntity.Status columnStatus = parseStatus(status.toUpperCase());
+
+        List<ApplicationRepositoryCustom.BoardCard> cards;
+        if (after != null && !after.isEmpty()) {
+            CursorUtils.RankCursor cursor = CursorUtils.decodeRank(after);
+            cards = applicationRepository.findBoardColumn(userId, columnStatus, cursor.getBoardRank(),
+                    cursor.getId(), size + 1);
+        } else {
+            cards = applicationRepository.findBoardColumn(userId, columnStatus, null, null, size + 1);
+        }
+
+        String nextCursor = null;
+        if (cards.size() > size) {
+            cards = cards.subList(0, size);
+            ApplicationRepositoryCustom.BoardCard last = cards.get(size - 1);
+            nextCursor = CursorUtils.encodeRank(last.boardRank(), last.application().getId());
+        }
+
+        List<ApplicationDTO> rows = new ArrayList<>(cards.size());
+        for (ApplicationRepositoryCustom.BoardCard card : cards) {
+            rows.add(card.application());
+        }
+        return new CursorPage<>(rows, nextCursor, size);
+    }
+
+    /**
+     * Relevance-ranked search over company, role and location. On PostgreSQL this
+     * uses the GIN-indexed search_vector column with prefix matching so partially
+     * typed words match; other databases fall back to a LIKE scan ranked in memory.
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicationDTO> searchApplications(UUID userId, String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+        if (isFullTextSearchAvailable()) {
+            String tsQuery = terms.stream()
+                    .map(term -> term + ":*")
+                    .collect(Collectors.joining(" & "));
+            return applicationRepository.searchRanked(userId, tsQuery, cappedLimit).stream()
+                    .map(ApplicationDTO::new)
+                    .toList();
+        }
+
+        // Every term must match some column; all candidates are ranked before the limit is applied
         Specification<ApplicationEntity> spec = (root, criteriaQuery, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("userId"), userId));
+            predicates.add(cb.equal(root.get("archived"), false));
+            for (String term : terms) {
+                String pattern = "%" + term + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("company")), pattern),
+                        cb.like(cb.lower(root.get("role")), pattern),
+                        cb.like(cb.lower(root.get("location")), pattern)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<ApplicationDTO> candidates = applicationRepository.findDtos(spec, newestFirst, 0, MAX_FALLBACK_CANDIDATES);
+
+        // Stable sort, so equally ranked results stay newest first
+        return candidates.stream()
+                .sorted(Comparator.comparingInt((ApplicationDTO app) -> searchRank(app, terms)).reversed())
+                .limit(cappedLimit)
+                .toList();
+    }
+
+    private boolean isFullTextSearchAvailable() {
+        Boolean available = fullTextSearchAvailable;
+        if (available == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                        DatabaseMetaData::getDatabaseProductName);
+                available = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException e) {
+                available = false;
+            }
+            fullTextSearchAvailable = available;
+        }
+        return available;
+    }
+
+    // Sums, per term, the best A/B/C weight of the search_vector column it matches
+    static int searchRank(ApplicationDTO app, List<String> terms) {
+        int rank = 0;
+        for (String term : terms) {
+            if (containsTerm(app.getCompany(), term)) {
+                rank += 3;
+            } else if (containsTerm(app.getRole(), term)) {
+                rank += 2;
+            } else if (containsTerm(app.getLocation(), term)) {
+                rank += 1;
+            }
+        }
+        return rank;
+    }
+
+    private static boolean containsTerm(String value, String term) {
+        return value != null && value.toLowerCase().contains(term);
+    }
+
+    private Specification<ApplicationEntity> buildFilterSpec(UUID userId, String status, String query,
+            OffsetDateTime from, OffsetDateTime to) {
+        return (root, criteriaQuery, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
 
             predicates.add(cb.equal(root.get("userId"), userId));
             predicates.add(cb.equal(root.get("archived"), false));
@@ -88,51 +370,64 @@ public class ApplicationService {
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        return applicationRepository.findAll(spec, pageable).map(ApplicationDTO::new);
     }
 
+    @Transactional(readOnly = true)
     public ApplicationDTO getApplicationById(UUID userId, UUID appId) {
-        ApplicationEntity app = applicationRepository.findById(appId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
-
-        if (!app.getUserId().equals(userId)) {
-            throw new UnauthorizedException("You do not have permission to access this application");
-        }
-
-        return new ApplicationDTO(app);
+        return applicationRepository.findDtoByIdAndUserId(appId, userId)
+                .orElseThrow(() -> {
+                    // Only the miss path pays for a second lookup to pick the right error
+                    if (applicationRepository.existsById(appId)) {
+                        return new UnauthorizedException("You do not have permission to access this application");
+                    }
+                    return new ResourceNotFoundException("Application not found");
+                });
     }
 
     @Transactional
     public ApplicationDTO updateApplication(UUID userId, UUID appId, CreateApplicationRequest request) {
-        ApplicationEntity app = applicationRepository.findById(appId)
+        ApplicationEntity app = applicationRepository.findByIdForUpdate(appId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         if (!app.getUserId().equals(userId)) {
             throw new UnauthorizedException("You do not have permission to update this application");
         }
 
+        ApplicationEntity.Status oldStatus = app.getStatus();
+        ApplicationEntity.Status newStatus = ApplicationEntity.Status.valueOf(request.getStatus());
+        if (newStatus != oldStatus) {
+            // Looked up before the entity is modified, so auto-flush cannot put the card in the new column first
+            app.setBoardRank(boardRankService.topOf(userId, newStatus));
+        }
+
         app.setCompany(request.getCompany());
         app.setRole(request.getRole());
         app.setLocation(request.getLocation());
         app.setJobUrl(request.getJobUrl());
         app.setDateApplied(request.getDateApplied());
-        app.setStatus(ApplicationEntity.Status.valueOf(request.getStatus()));
+        app.setStatus(newStatus);
 
         if (request.getPriority() != null) {
             app.setPriority(ApplicationEntity.Priority.valueOf(request.getPriority()));
         }
 
         ApplicationEntity saved = applicationRepository.save(app);
+        statsService.recordChange(userId, oldStatus, saved.getStatus());
 
         logActivity(appId, Activity.ActivityType.UPDATED, "Application updated");
 
+        searchIndexService.indexApplication(saved);
+        countCache.invalidate(userId);
+        analyticsCache.invalidate(userId);
+        long version = changeVersionService.bump(userId);
+        changeFeedService.publish(userId, appId, ApplicationChangeEvent.Type.UPDATED, version);
+
         return new ApplicationDTO(saved);
     }
 
     @Transactional
     public void deleteApplication(UUID userId, UUID appId) {
-        ApplicationEntity app = applicationRepository.findById(appId)
+        ApplicationEntity app = applicationRepository.findByIdForUpdate(appId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         if (!app.getUserId().equals(userId)) {
@@ -140,11 +435,18 @@ public class ApplicationService {
         }
 
         applicationRepository.delete(app);
+        statsService.recordChange(userId, app.getStatus(), null);
+        searchIndexService.removeApplication(userId, appId);
+        countCache.invalidate(userId);
+        analyticsCache.invalidate(userId);
+        long version = changeVersionService.bump(userId);
+        changeFeedService.publish(userId, appId, ApplicationChangeEvent.Type.DELETED, version);
+        TransactionUtils.afterCommit(() -> ownershipService.invalidate(userId, appId));
     }
 
     @Transactional
     public ApplicationDTO updateStatus(UUID userId, UUID appId, String newStatus) {
-        ApplicationEntity app = applicationRepository.findById(appId)
+        ApplicationEntity app = applicationRepository.findByIdForUpdate(appId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         if (!app.getUserId().equals(userId)) {
@@ -153,22 +455,228 @@ public class ApplicationService {
 
         ApplicationEntity.Status oldStatus = app.getStatus();
         ApplicationEntity.Status status = ApplicationEntity.Status.valueOf(newStatus);
+        if (status != oldStatus) {
+            app.setBoardRank(boardRankService.topOf(userId, status));
+        }
         app.setStatus(status);
 
         ApplicationEntity saved = applicationRepository.save(app);
+        statsService.recordChange(userId, oldStatus, status);
 
         logActivity(appId, Activity.ActivityType.STATUS_CHANGED,
-                String.format("Status changed from %s to %s", oldStatus, status));
+                StatusChangeMessage.format(oldStatus, status));
+
+        searchIndexService.indexApplication(saved);
+        countCache.invalidate(userId);
+        analyticsCache.invalidate(userId);
+        long version = changeVersionService.bump(userId);
+        changeFeedService.publish(userId, appId, ApplicationChangeEvent.Type.STATUS_CHANGED, version);
 
         return new ApplicationDTO(saved);
     }
 
-    public void logActivity(UUID applicationId, Activity.ActivityType type, String message) {
+    /**
+     * Moves a card to a position in a board column, changing its status if the
+     * column differs. Only the moved card's row is written: it gets a new
+     * fractional-index key between its new neighbours.
+     */
+    @Transactional
+    public ApplicationDTO moveCard(UUID userId, UUID appId, MoveCardRequest request) {
+        ApplicationEntity app = applicationRepository.findByIdForUpdate(appId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+
+        if (!app.getUserId().equals(userId)) {
+            throw new UnauthorizedException("You do not have permission to update this application");
+        }
+        if (appId.equals(request.getPreviousId()) || appId.equals(request.getNextId())) {
+            throw new BadRequestException("A card cannot be placed next to itself");
+        }
+
+        ApplicationEntity.Status oldStatus = app.getStatus();
+        ApplicationEntity.Status status = request.getStatus() != null ? parseStatus(request.getStatus()) : oldStatus;
+
+        List<UUID> neighbourIds = new ArrayList<>(2);
+        if (request.getPreviousId() != null) {
+            neighbourIds.add(request.getPreviousId());
+        }
+        if (request.getNextId() != null) {
+            neighbourIds.add(request.getNextId());
+        }
+        Map<UUID, String> neighbourRanks = new HashMap<>();
+        if (!neighbourIds.isEmpty()) {
+            for (Object[] row : applicationRepository.findBoardPositions(userId, neighbourIds)) {
+                // A neighbour that has since left the column means the client's board is stale
+                if (row[1] == status && !(Boolean) row[3]) {
+                    neighbourRanks.put((UUID) row[0], (String) row[2]);
+                }
+            }
+            if (neighbourRanks.size() != neighbourIds.size()) {
+                throw new BadRequestException("Board position is out of date, reload the board");
+            }
+        }
+
+        String rank = boardRankService.between(userId, status, appId,
+                neighbourRanks.get(request.getPreviousId()), neighbourRanks.get(request.getNextId()));
+        if (rank == null) {
+            throw new BadRequestException("Board position is out of date, reload the board");
+        }
+
+        app.setBoardRank(rank);
+        app.setStatus(status);
+        ApplicationEntity saved = applicationRepository.save(app);
+
+        if (status != oldStatus) {
+            statsService.recordChange(userId, oldStatus, status);
+            logActivity(appId, Activity.ActivityType.STATUS_CHANGED,
+                    StatusChangeMessage.format(oldStatus, status));
+            searchIndexService.indexApplication(saved);
+            countCache.invalidate(userId);
+            analyticsCache.invalidate(userId);
+        }
+        long version = changeVersionService.bump(userId);
+        changeFeedService.publish(userId, appId, status != oldStatus
+                ? ApplicationChangeEvent.Type.STATUS_CHANGED
+                : ApplicationChangeEvent.Type.UPDATED, version);
+
+        return new ApplicationDTO(saved);
+    }
+
+    /**
+     * Applies one action to many applications with set-based statements scoped to
+     * the caller's rows. Ids the caller does not own are reported as not found
+     * rather than failing the whole batch.
+     */
+    @Transactional
+    public BulkOperationResponse applyBulkOperation(UUID userId, BulkOperationRequest request) {
+        BulkOperationRequest.Action action = parseBulkAction(request.getAction());
+
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            throw new BadRequestException("At least one application id is required");
+        }
+        Set<UUID> ids = new LinkedHashSet<>(request.getIds());
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new BadRequestException("A bulk operation can affect at most " + MAX_BULK_IDS + " applications");
+        }
+
+        ApplicationEntity.Status newStatus = null;
+        if (action == BulkOperationRequest.Action.STATUS) {
+            newStatus = parseStatus(request.getStatus());
+        }
+
+        Map<UUID, ApplicationEntity.Status> owned = new HashMap<>();
+        Set<UUID> archived = new HashSet<>();
+        for (Object[] row : applicationRepository.findOwnedStatuses(userId, ids)) {
+            owned.put((UUID) row[0], (ApplicationEntity.Status) row[1]);
+            if ((Boolean) row[2]) {
+                archived.add((UUID) row[0]);
+            }
+        }
+
+        // Rows already in the requested state succeed without being written, logged or counted
+        List<UUID> changed = new ArrayList<>();
+        for (UUID id : ids) {
+            if (!owned.containsKey(id)) {
+                continue;
+            }
+            boolean changes = switch (action) {
+                case STATUS -> owned.get(id) != newStatus;
+                case ARCHIVE -> !archived.contains(id);
+                case DELETE -> true;
+            };
+            if (changes) {
+                changed.add(id);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<Activity> activities = new ArrayList<>();
+
+            switch (action) {
+                case STATUS -> {
+                    // Cards changing column go to its top, in request order
+                    List<String> ranks = boardRankService.topOf(userId, newStatus, changed.size());
+
+                    applicationRepository.bulkUpdateStatus(userId, changed, newStatus, now);
+                    Map<UUID, String> movedRanks = new LinkedHashMap<>();
+                    for (int i = 0; i < changed.size(); i++) {
+                        movedRanks.put(changed.get(i), ranks.get(i));
+                    }
+                    applicationRepository.updateBoardRanks(movedRanks);
+                    List<ApplicationEntity.Status> previous = new ArrayList<>();
+                    for (UUID id : changed) {
+                        previous.add(owned.get(id));
+                        activities.add(newActivity(id, Activity.ActivityType.STATUS_CHANGED,
+                                StatusChangeMessage.format(owned.get(id), newStatus)));
+                    }
+                    statsService.recordChanges(userId, previous, newStatus);
+                }
+                case ARCHIVE -> {
+                    applicationRepository.bulkArchive(userId, changed, now);
+                    for (UUID id : changed) {
+                        activities.add(newActivity(id, Activity.ActivityType.UPDATED, "Application archived"));
+                    }
+                }
+                case DELETE -> {
+                    applicationRepository.bulkDelete(userId, changed);
+                    statsService.recordChanges(userId, owned.values(), null);
+                    TransactionUtils.afterCommit(() ->
+                            changed.forEach(id -> ownershipService.invalidate(userId, id)));
+                }
+            }
+
+            activityRepository.batchInsert(activities);
+
+            countCache.invalidate(userId);
+            analyticsCache.invalidate(userId);
+            long version = changeVersionService.bump(userId);
+            ApplicationChangeEvent.Type eventType = switch (action) {
+                case STATUS -> ApplicationChangeEvent.Type.STATUS_CHANGED;
+                case ARCHIVE -> ApplicationChangeEvent.Type.UPDATED;
+                case DELETE -> ApplicationChangeEvent.Type.DELETED;
+            };
+            changeFeedService.publish(userId, changed, eventType, version);
+            // Bulk statements bypass the incremental hooks, so rebuild the index on next search
+            TransactionUtils.afterCommit(() -> searchIndexService.invalidate(userId));
+        }
+
+        BulkOperationResponse response = new BulkOperationResponse(action.name());
+        for (UUID id : ids) {
+            if (owned.containsKey(id)) {
+                response.addSuccess(id);
+            } else {
+                response.addError(id, "Application not found");
+            }
+        }
+        return response;
+    }
+
+    private BulkOperationRequest.Action parseBulkAction(String action) {
+        try {
+            return BulkOperationRequest.Action.valueOf(action);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Action must be one of STATUS, ARCHIVE, DELETE");
+        }
+    }
+
+    private ApplicationEntity.Status parseStatus(String status) {
+        try {
+            return ApplicationEntity.Status.valueOf(status);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
+    }
+
+    private Activity newActivity(UUID applicationId, Activity.ActivityType type, String message) {
         Activity activity = new Activity();
         activity.setApplicationId(applicationId);
         activity.setType(type);
         activity.setMessage(message);
-        activityRepository.save(activity);
+        return activity;
+    }
+
+    public void logActivity(UUID applicationId, Activity.ActivityType type, String message) {
+        activityRepository.save(newActivity(applicationId, type, message));
     }
 
     public ApplicationEntity getApplicationEntityById(UUID userId, UUID appId) {
@@ -0,0 +1,100 @@
+package com.apptracker.service;
+
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.UserApplicationStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the per-user status counters in user_application_stats in step with
+ * the applications table. Callers record each change inside the transaction
+ * that makes it, so the counters commit or roll back with the write.
+ *
+ * Writers lock the application row before reading its old status, so two
+ * concurrent changes to one application cannot both count the same
+ * transition. {@link #reconcile()} still periodically rebuilds any user whose
+ * counters have drifted, e.g. through writes that bypass this service.
+ */
+@Service
+public class ApplicationStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStatsService.class);
+
+    private final UserApplicationStatsRepository statsRepository;
+
+    public ApplicationStatsService(UserApplicationStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Records one application moving between statuses; {@code from} is null for
+     * a new application and {@code to} is null for a deleted one
+     */
+    public void recordChange(UUID userId, ApplicationEntity.Status from, ApplicationEntity.Status to) {
+        if (from == to) {
+            return;
+        }
+        Map<ApplicationEntity.Status, Long> deltas = new EnumMap<>(ApplicationEntity.Status.class);
+        addDelta(deltas, from, -1);
+        addDelta(deltas, to, 1);
+        statsRepository.applyDeltas(userId, deltas);
+    }
+
+    /**
+     * Records many applications moving from their current statuses to one new
+     * status, or being deleted when {@code to} is null
+     */
+    public void recordChanges(UUID userId, Collection<ApplicationEntity.Status> from, ApplicationEntity.Status to) {
+        Map<ApplicationEntity.Status, Long> deltas = new EnumMap<>(ApplicationEntity.Status.class);
+        for (ApplicationEntity.Status status : from) {
+            if (status != to) {
+                addDelta(deltas, status, -1);
+                addDelta(deltas, to, 1);
+            }
+        }
+        statsRepository.applyDeltas(userId, deltas);
+    }
+
+    /**
+     * Application counts by status name; statuses with no applications are omitted
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getStatusCounts(UUID userId) {
+        Map<String, Long> counts = new HashMap<>();
+        statsRepository.findCounts(userId).forEach((status, count) -> counts.put(status.name(), count));
+        return counts;
+    }
+
+    /**
+     * Rebuilds the counters of every user whose stored counts disagree with the
+     * applications table. Each user is rebuilt in its own short transaction.
+     *
+     * @return the number of users whose counters were corrected
+     */
+    public int reconcile() {
+        List<UUID> drifted = statsRepository.findDriftedUserIds();
+        for (UUID userId : drifted) {
+            statsRepository.rebuild(userId);
+        }
+        if (!drifted.isEmpty()) {
+            logger.warn("Rebuilt drifted application stats for {} users", drifted.size());
+        }
+        return drifted.size();
+    }
+
+    private static void addDelta(Map<ApplicationEntity.Status, Long> deltas, ApplicationEntity.Status status,
+            long delta) {
+        if (status != null) {
+            deltas.merge(status, delta, Long::sum);
+        }
+    }
+}
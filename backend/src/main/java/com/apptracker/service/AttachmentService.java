@@ -15,24 +15,27 @@ import java.util.UUID;
 public class AttachmentService {
 
     private final AttachmentRepository attachmentRepository;
-    private final ApplicationService applicationService;
+    private final OwnershipService ownershipService;
     private final ActivityRepository activityRepository;
     private final R2StorageService r2StorageService;
+    private final ChangeVersionService changeVersionService;
 
     public AttachmentService(AttachmentRepository attachmentRepository,
-            ApplicationService applicationService,
+            OwnershipService ownershipService,
             ActivityRepository activityRepository,
-            R2StorageService r2StorageService) {
+            R2StorageService r2StorageService,
+            ChangeVersionService changeVersionService) {
         this.attachmentRepository = attachmentRepository;
-        this.applicationService = applicationService;
+        this.ownershipService = ownershipService;
         this.activityRepository = activityRepository;
         this.r2StorageService = r2StorageService;
+        this.changeVersionService = changeVersionService;
     }
 
     @Transactional
     public PresignResponse generatePresignedUrl(UUID userId, UUID appId, PresignRequest request) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         // Validate file
         if (!R2StorageService.isAllowedContentType(request.getContentType())) {
@@ -52,7 +55,7 @@ public class AttachmentService {
     @Transactional
     public Attachment confirmAttachment(UUID userId, UUID appId, ConfirmAttachmentRequest request) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         Attachment attachment = new Attachment();
         attachment.setApplicationId(appId);
@@ -70,12 +73,15 @@ public class AttachmentService {
         activity.setMessage("File uploaded: " + request.getFileName());
         activityRepository.save(activity);
 
+        changeVersionService.bump(userId);
+
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Attachment> getAttachments(UUID userId, UUID appId) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         return attachmentRepository.findByApplicationIdOrderByUploadedAtDesc(appId);
     }
 
@@ -84,17 +90,18 @@ public class AttachmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment not found"));
 
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, attachment.getApplicationId());
+        ownershipService.verifyOwnership(userId, attachment.getApplicationId());
 
         return r2StorageService.generatePresignedDownloadUrl(attachment.getObjectKey());
     }
 
+    @Transactional
     public void deleteAttachment(UUID userId, UUID appId, UUID attachmentId) {
         Attachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment not found"));
 
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         
         // Delete from R2 first
         r2StorageService.deleteObject(attachment.getObjectKey());
@@ -108,5 +115,7 @@ public class AttachmentService {
         activity.setType(Activity.ActivityType.FILE_DELETED);
         activity.setMessage("File deleted: " + attachment.getFileName());
         activityRepository.save(activity);
+
+        changeVersionService.bump(userId);
     }
 }
\ No newline at end of file
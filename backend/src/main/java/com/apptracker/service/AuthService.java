@@ -12,6 +12,7 @@ import com.apptracker.repository.UserRepository;
 import com.apptracker.repository.VerifyEmailTokenRepository;
 import com.apptracker.security.JwtUtil;
 import com.apptracker.util.AppLogger;
+import com.apptracker.util.TransactionUtils;
 import com.apptracker.util.ValidationUtils;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -32,17 +33,22 @@ public class AuthService {
     private final R2StorageService r2StorageService;
     private final JwtUtil jwtUtil;
     private final VerifyEmailTokenRepository emailVerificationTokenRepository;
+    private final SearchIndexService searchIndexService;
+    private final OwnershipService ownershipService;
     private final BCryptPasswordEncoder pwEncoder = new BCryptPasswordEncoder();
 
     public AuthService(UserRepository userRepo, AttachmentRepository attachmentRepo,
             EmailService emailService, R2StorageService r2StorageService,
-            JwtUtil jwtUtil, VerifyEmailTokenRepository emailVerificationTokenRepository) {
+            JwtUtil jwtUtil, VerifyEmailTokenRepository emailVerificationTokenRepository,
+            SearchIndexService searchIndexService, OwnershipService ownershipService) {
         this.userRepo = userRepo;
         this.attachmentRepo = attachmentRepo;
         this.emailService = emailService;
         this.r2StorageService = r2StorageService;
         this.jwtUtil = jwtUtil;
         this.emailVerificationTokenRepository = emailVerificationTokenRepository;
+        this.searchIndexService = searchIndexService;
+        this.ownershipService = ownershipService;
     }
 
     /**
@@ -230,6 +236,10 @@ public class AuthService {
 
         // Delete user (cascades will handle database cleanup)
         userRepo.deleteById(userId);
+        TransactionUtils.afterCommit(() -> {
+            searchIndexService.invalidate(userId);
+            ownershipService.invalidateUser(userId);
+        });
     }
 
     /**
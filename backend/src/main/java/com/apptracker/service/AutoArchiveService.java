@@ -0,0 +1,114 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationChangeEvent;
+import com.apptracker.model.Activity;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.repository.ApplicationRepositoryCustom.ArchivedApplication;
+import com.apptracker.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Archives REJECTED applications that have not changed for a while, for users
+ * who enabled the auto-archive preference.
+ *
+ * Work is done in chunks: each transaction locks up to chunk-size candidate
+ * rows, archives them with one set-based UPDATE and writes their activity
+ * rows, so a large backlog never holds one long transaction or loads
+ * applications into memory. Rows locked by a concurrent edit are skipped and
+ * left for the next run.
+ */
+@Service
+public class AutoArchiveService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ActivityRepository activityRepository;
+    private final ApplicationCountCache countCache;
+    private final AnalyticsCache analyticsCache;
+    private final SearchIndexService searchIndexService;
+    private final ChangeVersionService changeVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int ageDays;
+
+    public AutoArchiveService(ApplicationRepository applicationRepository,
+            ActivityRepository activityRepository,
+            ApplicationCountCache countCache,
+            AnalyticsCache analyticsCache,
+            SearchIndexService searchIndexService,
+            ChangeVersionService changeVersionService,
+            ChangeFeedService changeFeedService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.auto-archive.chunk-size:1000}") int chunkSize,
+            @Value("${app.auto-archive.age-days:30}") int ageDays) {
+        this.applicationRepository = applicationRepository;
+        this.activityRepository = activityRepository;
+        this.countCache = countCache;
+        this.analyticsCache = analyticsCache;
+        this.searchIndexService = searchIndexService;
+        this.changeVersionService = changeVersionService;
+        this.changeFeedService = changeFeedService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.ageDays = ageDays;
+    }
+
+    /**
+     * @return the number of applications archived
+     */
+    public int archiveOldRejected() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(ageDays);
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(tx -> archiveChunk(cutoff));
+            if (archived == null || archived == 0) {
+                return total;
+            }
+            total += archived;
+            if (archived < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveChunk(OffsetDateTime cutoff) {
+        List<ArchivedApplication> archived =
+                applicationRepository.archiveRejectedBefore(cutoff, OffsetDateTime.now(), chunkSize);
+        if (archived.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<UUID>> idsByUser = new LinkedHashMap<>();
+        List<Activity> activities = new ArrayList<>(archived.size());
+        for (ArchivedApplication app : archived) {
+            idsByUser.computeIfAbsent(app.userId(), k -> new ArrayList<>()).add(app.id());
+            Activity activity = new Activity();
+            activity.setApplicationId(app.id());
+            activity.setType(Activity.ActivityType.UPDATED);
+            activity.setMessage("Application auto-archived");
+            activities.add(activity);
+        }
+        activityRepository.batchInsert(activities);
+
+        for (Map.Entry<UUID, List<UUID>> entry : idsByUser.entrySet()) {
+            UUID userId = entry.getKey();
+            countCache.invalidate(userId);
+            analyticsCache.invalidate(userId);
+            long version = changeVersionService.bump(userId);
+            changeFeedService.publish(userId, entry.getValue(), ApplicationChangeEvent.Type.UPDATED, version);
+            TransactionUtils.afterCommit(() -> searchIndexService.invalidate(userId));
+        }
+        return archived.size();
+    }
+}
@@ -0,0 +1,167 @@
+package com.apptracker.service;
+
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.util.FractionalIndex;
+import com.apptracker.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Positions of cards within a board column, stored as fractional-index keys in
+ * applications.board_rank. Placing or moving a card writes only that card's
+ * key; when repeated inserts at the same spot make keys longer than the
+ * configured limit, the column is queued and later rewritten with short,
+ * evenly spaced keys by a background pass.
+ */
+@Service
+public class BoardRankService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardRankService.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final ChangeVersionService changeVersionService;
+    private final ScheduledJobMonitor jobMonitor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRankLength;
+
+    // Columns whose keys outgrew maxRankLength, drained by rebalancePending()
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+
+    public BoardRankService(ApplicationRepository applicationRepository,
+            ChangeVersionService changeVersionService,
+            ScheduledJobMonitor jobMonitor,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.board.rank.max-length:24}") int maxRankLength) {
+        this.applicationRepository = applicationRepository;
+        this.changeVersionService = changeVersionService;
+        this.jobMonitor = jobMonitor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRankLength = maxRankLength;
+    }
+
+    /**
+     * Key that places a card above every card currently in the column. Must be
+     * called before the card itself is moved into the column.
+     */
+    public String topOf(UUID userId, ApplicationEntity.Status status) {
+        String first = applicationRepository.findFirstBoardRank(userId, status);
+        return checked(userId, status, FractionalIndex.between(null, first));
+    }
+
+    /**
+     * {@code count} ascending keys that place cards above every card currently
+     * in the column, in the given order
+     */
+    public List<String> topOf(UUID userId, ApplicationEntity.Status status, int count) {
+        String first = applicationRepository.findFirstBoardRank(userId, status);
+        List<String> ranks = FractionalIndex.between(null, first, count);
+        if (!ranks.isEmpty()) {
+            checked(userId, status, ranks.get(ranks.size() - 1));
+        }
+        return ranks;
+    }
+
+    /**
+     * Key for a card placed directly below {@code previousRank} and above
+     * {@code nextRank}; either may be null for the top or bottom of the column.
+     * A missing neighbour is looked up so the card lands next to the given one.
+     *
+     * @return the new key, or null if the neighbours are not in order (a
+     *         concurrent move left two cards with equal keys) or another card
+     *         sits between them (the client's board is stale)
+     */
+    public String between(UUID userId, ApplicationEntity.Status status, UUID cardId,
+            String previousRank, String nextRank) {
+        boolean bothGiven = previousRank != null && nextRank != null;
+        if (previousRank != null && nextRank == null) {
+            nextRank = applicationRepository.findBoardRankAfter(userId, status, previousRank, cardId);
+        } else if (previousRank == null && nextRank != null) {
+            previousRank = applicationRepository.findBoardRankBefore(userId, status, nextRank, cardId);
+        } else if (previousRank == null) {
+            nextRank = applicationRepository.findFirstBoardRank(userId, status);
+        }
+
+        if (previousRank != null && nextRank != null && previousRank.compareTo(nextRank) >= 0) {
+            // Queued right away: the caller rejects the move, so its transaction never commits
+            pending.add(new Column(userId, status));
+            return null;
+        }
+        if (bothGiven) {
+            String following = applicationRepository.findBoardRankAfter(userId, status, previousRank, cardId);
+            if (following != null && following.compareTo(nextRank) < 0) {
+                return null;
+            }
+        }
+        return checked(userId, status, FractionalIndex.between(previousRank, nextRank));
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.rank.rebalance-interval-ms:60000}")
+    public void rebalancePending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        jobMonitor.run("board-rank-rebalance", () -> {
+            long cards = 0;
+            for (Column column : new ArrayList<>(pending)) {
+                pending.remove(column);
+                try {
+                    cards += rebalance(column.userId(), column.status());
+                } catch (Exception e) {
+                    logger.error("Failed to rebalance board column {} for user {}",
+                            column.status(), column.userId(), e);
+                }
+            }
+            return cards;
+        });
+    }
+
+    /**
+     * Rewrites every key in the column with short, evenly spaced keys, keeping
+     * the current order. The column's rows are locked while this runs so a
+     * concurrent move cannot interleave with the rewrite.
+     */
+    public int rebalance(UUID userId, ApplicationEntity.Status status) {
+        Integer rewritten = transactionTemplate.execute(tx -> {
+            List<UUID> ids = applicationRepository.lockBoardColumn(userId, status);
+            List<String> ranks = FractionalIndex.evenlySpaced(ids.size());
+            Map<UUID, String> updates = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                updates.put(ids.get(i), ranks.get(i));
+            }
+            applicationRepository.updateBoardRanks(updates);
+            // Outstanding column cursors encode old keys, so clients must refetch
+            changeVersionService.bump(userId);
+            return ids.size();
+        });
+        logger.info("Rebalanced {} cards in board column {} for user {}", rewritten, status, userId);
+        return rewritten == null ? 0 : rewritten;
+    }
+
+    private String checked(UUID userId, ApplicationEntity.Status status, String rank) {
+        if (rank.length() > maxRankLength) {
+            requestRebalance(userId, status);
+        }
+        return rank;
+    }
+
+    private void requestRebalance(UUID userId, ApplicationEntity.Status status) {
+        TransactionUtils.afterCommit(() -> pending.add(new Column(userId, status)));
+    }
+
+    private record Column(UUID userId, ApplicationEntity.Status status) {
+    }
+}
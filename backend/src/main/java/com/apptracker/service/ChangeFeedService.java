@@ -0,0 +1,266 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationChangeEvent;
+import com.apptracker.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of application change events to Server-Sent Events
+ * subscribers. Publishing never blocks on a client: each subscriber has a
+ * bounded buffer that drops its oldest event when full, and a small sender pool
+ * drains buffers to the sockets. Heartbeats go through the same buffer and are
+ * skipped while a drain is pending, so each subscriber has at most one task in
+ * the sender's bounded queue however slow its socket is. If the queue is full
+ * anyway, the stream that could not be scheduled is closed and its client
+ * reconnects. A client that missed events can always
+ * recover by refetching the list, since every event carries the change version
+ * its write produced (the same value as the list ETag).
+ *
+ * Each user may hold a limited number of open streams; opening one more
+ * completes that user's oldest stream.
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final ChangeVersionService changeVersionService;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribersPerUser;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+
+    public ChangeFeedService(ChangeVersionService changeVersionService,
+            @Value("${app.change-feed.buffer-size:64}") int bufferSize,
+            @Value("${app.change-feed.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${app.change-feed.sender-threads:2}") int senderThreads,
+            @Value("${app.change-feed.max-subscribers-per-user:5}") int maxSubscribersPerUser,
+            @Value("${app.change-feed.sender-queue-size:10000}") int senderQueueSize) {
+        this.changeVersionService = changeVersionService;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMinutes * 60_000;
+        this.maxSubscribersPerUser = maxSubscribersPerUser;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Rejections surface as RejectedExecutionException, handled per subscriber in schedule()
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Opens a stream for the user. The one version lookup runs outside any
+     * transaction, so its connection goes back to the pool before the
+     * long-lived response starts.
+     */
+    public SseEmitter subscribe(UUID userId) {
+        // Read first so an event published meanwhile is never older than the hello
+        long version = changeVersionService.currentVersion(userId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> userSubscribers = set == null ? new CopyOnWriteArraySet<>() : set;
+            userSubscribers.add(subscriber);
+            // Insertion ordered, so the oldest streams come first
+            Iterator<Subscriber> it = userSubscribers.iterator();
+            while (userSubscribers.size() - evicted.size() > maxSubscribersPerUser && it.hasNext()) {
+                evicted.add(it.next());
+            }
+            userSubscribers.removeAll(evicted);
+            return userSubscribers;
+        });
+        evicted.forEach(oldest -> oldest.emitter.complete());
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // Tell the client where the stream starts so it can detect a stale list
+        subscriber.offer("hello", Map.of("version", version));
+        return emitter;
+    }
+
+    /**
+     * Queues an event for the user's subscribers once the current transaction
+     * commits, so clients never see a change that was rolled back
+     *
+     * @param version the change version returned by the write's
+     *                {@link ChangeVersionService#bump}
+     */
+    public void publish(UUID userId, UUID appId, ApplicationChangeEvent.Type type, long version) {
+        publish(userId, List.of(appId), type, version);
+    }
+
+    public void publish(UUID userId, Collection<UUID> appIds, ApplicationChangeEvent.Type type, long version) {
+        List<UUID> ids = List.copyOf(appIds);
+        TransactionUtils.afterCommit(() -> {
+            Set<Subscriber> userSubscribers = subscribers.get(userId);
+            if (userSubscribers == null || userSubscribers.isEmpty()) {
+                return;
+            }
+            for (UUID appId : ids) {
+                ApplicationChangeEvent event = new ApplicationChangeEvent(type, appId, version);
+                for (Subscriber subscriber : userSubscribers) {
+                    subscriber.offer("change", event);
+                }
+            }
+        });
+    }
+
+    /**
+     * Keeps idle connections open through proxies that close silent sockets
+     */
+    @Scheduled(fixedRate = 25_000)
+    public void sendHeartbeats() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            userSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        subscribers.clear();
+    }
+
+    int queuedSends() {
+        return sender.getQueue().size();
+    }
+
+    int subscriberCount(UUID userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers == null ? 0 : userSubscribers.size();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private int dropped;
+
+        private Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        // Builders are single-use, so each subscriber gets its own
+        void offer(String name, Object data) {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+            boolean schedule;
+            synchronized (this) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                }
+                buffer.addLast(builder);
+                schedule = !draining;
+                draining = true;
+            }
+            if (schedule) {
+                schedule();
+            }
+        }
+
+        // A pending drain already keeps the socket busy, so only idle subscribers need one
+        void heartbeat() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                buffer.addLast(SseEmitter.event().comment("heartbeat"));
+                draining = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Change feed sender queue is full, closing a stream of user {}", userId);
+                synchronized (this) {
+                    buffer.clear();
+                    draining = false;
+                }
+                unsubscribe(this);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        if (dropped > 0) {
+                            logger.debug("Dropped {} change events for slow subscriber of user {}", dropped, userId);
+                            dropped = 0;
+                        }
+                        return;
+                    }
+                }
+                try {
+                    synchronized (emitter) {
+                        emitter.send(next);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    synchronized (this) {
+                        buffer.clear();
+                        draining = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.apptracker.service;
+
+import com.apptracker.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Tracks a per-user change version used as the ETag of the application list
+ * and detail endpoints. Every service that mutates a user's applications or
+ * their notes, contacts, reminders or attachments bumps it, so a matching
+ * If-None-Match can be answered with 304 before any entity query runs.
+ */
+@Service
+public class ChangeVersionService {
+
+    private final UserRepository userRepository;
+
+    public ChangeVersionService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Joins the caller's transaction when there is one, so the bump commits or
+     * rolls back together with the write it describes
+     *
+     * @return the version this write produces, visible to others once it commits
+     */
+    @Transactional
+    public long bump(UUID userId) {
+        userRepository.incrementChangeVersion(userId);
+        return currentVersion(userId);
+    }
+
+    public long currentVersion(UUID userId) {
+        return userRepository.findChangeVersion(userId).orElse(0L);
+    }
+
+    public String currentETag(UUID userId) {
+        long version = currentVersion(userId);
+        // Weak validator: the body is equivalent, not byte-identical, for a given version
+        return "W/\"" + userId + "-" + version + "\"";
+    }
+}
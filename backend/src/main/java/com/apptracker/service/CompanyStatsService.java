@@ -0,0 +1,142 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.CompanyResponseRateDTO;
+import com.apptracker.repository.CompanyResponseStatsRepository;
+import com.apptracker.repository.CompanyResponseStatsRepository.CompanyStatsRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cross-user, anonymized response rates per company.
+ *
+ * A nightly job walks users in id order and aggregates each chunk of users'
+ * applications per company, one chunk query at a time so the job holds a
+ * single pooled connection; the partial totals are merged and written to
+ * company_response_stats in one transaction. Request threads only ever read
+ * that table, through an in-memory snapshot that is reloaded after the job or
+ * once it goes stale.
+ */
+@Service
+public class CompanyStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompanyStatsService.class);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final CompanyResponseStatsRepository statsRepository;
+    private final int chunkSize;
+    private final long minApplications;
+    private final long minUsers;
+    private final long snapshotTtlMillis;
+
+    // Guards reloading and clearing the snapshot, so a reload that read the table
+    // before the job's write cannot be published after the job cleared it
+    private final Object snapshotLock = new Object();
+    private volatile Snapshot snapshot;
+
+    public CompanyStatsService(CompanyResponseStatsRepository statsRepository,
+            @Value("${app.company-stats.chunk-size:1000}") int chunkSize,
+            @Value("${app.company-stats.min-applications:20}") long minApplications,
+            @Value("${app.company-stats.min-users:5}") long minUsers,
+            @Value("${app.company-stats.snapshot-ttl-minutes:60}") long snapshotTtlMinutes) {
+        this.statsRepository = statsRepository;
+        this.chunkSize = chunkSize;
+        this.minApplications = minApplications;
+        this.minUsers = minUsers;
+        this.snapshotTtlMillis = snapshotTtlMinutes * 60_000;
+    }
+
+    /**
+     * Recomputes every company's totals from the applications table and
+     * replaces the published aggregates. Companies backed by fewer than the
+     * configured number of applications or distinct users are not published.
+     *
+     * @return the number of companies published
+     */
+    public int recompute() {
+        long start = System.nanoTime();
+        Map<String, CompanyStatsRow> totals = new HashMap<>();
+        int chunks = 0;
+
+        UUID lower = MIN_UUID;
+        while (true) {
+            List<UUID> userIds = statsRepository.findUserIdsAfter(lower, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            UUID upper = userIds.get(userIds.size() - 1);
+            for (CompanyStatsRow row : statsRepository.aggregateUserRange(lower, upper)) {
+                totals.merge(row.companyKey(), row, CompanyStatsRow::merge);
+            }
+            chunks++;
+            lower = upper;
+        }
+
+        List<CompanyStatsRow> published = new ArrayList<>();
+        for (CompanyStatsRow row : totals.values()) {
+            if (row.applications() >= minApplications && row.users() >= minUsers) {
+                published.add(row);
+            }
+        }
+
+        statsRepository.replaceAll(published, OffsetDateTime.now());
+        synchronized (snapshotLock) {
+            snapshot = null;
+        }
+
+        logger.info("Computed response rates for {} of {} companies over {} chunks in {} ms",
+                published.size(), totals.size(), chunks, (System.nanoTime() - start) / 1_000_000);
+        return published.size();
+    }
+
+    /**
+     * Published response rates, most-applied companies first, optionally
+     * filtered by a case-insensitive substring of the company name
+     */
+    public List<CompanyResponseRateDTO> getResponseRates(String query, int limit) {
+        String needle = query == null ? "" : query.trim().toLowerCase();
+        List<CompanyResponseRateDTO> results = new ArrayList<>();
+        for (CompanyResponseRateDTO rate : currentSnapshot().rates()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            if (needle.isEmpty() || rate.getCompany().toLowerCase().contains(needle)) {
+                results.add(rate);
+            }
+        }
+        return results;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (snapshotLock) {
+            // Concurrent readers wait for one reload instead of each querying the table
+            current = snapshot;
+            if (!isFresh(current)) {
+                // Another replica may have run the job, so stale snapshots are reloaded from the table
+                current = new Snapshot(List.copyOf(statsRepository.findAll()), System.currentTimeMillis());
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && current.loadedAt() + snapshotTtlMillis >= System.currentTimeMillis();
+    }
+
+    private record Snapshot(List<CompanyResponseRateDTO> rates, long loadedAt) {
+    }
+}
@@ -18,22 +18,28 @@ import java.util.UUID;
 public class ContactService {
 
     private final ContactRepository contactRepository;
-    private final ApplicationService applicationService;
+    private final OwnershipService ownershipService;
     private final ActivityRepository activityRepository;
+    private final SearchIndexService searchIndexService;
+    private final ChangeVersionService changeVersionService;
     PhoneNumberUtil phoneNumberUtl = PhoneNumberUtil.getInstance();
 
     public ContactService(ContactRepository contactRepository,
-            ApplicationService applicationService,
-            ActivityRepository activityRepository) {
+            OwnershipService ownershipService,
+            ActivityRepository activityRepository,
+            SearchIndexService searchIndexService,
+            ChangeVersionService changeVersionService) {
         this.contactRepository = contactRepository;
-        this.applicationService = applicationService;
+        this.ownershipService = ownershipService;
         this.activityRepository = activityRepository;
+        this.searchIndexService = searchIndexService;
+        this.changeVersionService = changeVersionService;
     }
 
     @Transactional
     public Contact createContact(UUID userId, UUID appId, CreateContactRequest request) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         if (request.getPhone() != null && !request.getPhone().isEmpty()) {
             try {
@@ -63,20 +69,27 @@ public class ContactService {
         activity.setMessage("Contact added: " + request.getName());
         activityRepository.save(activity);
 
+        searchIndexService.indexContact(userId, saved);
+        changeVersionService.bump(userId);
+
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Contact> getContacts(UUID userId, UUID appId) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         return contactRepository.findByApplicationIdOrderByCreatedAtDesc(appId);
     }
 
+    @Transactional
     public void deleteContact(UUID userId, UUID appId, UUID contactId) {
         Contact contact = contactRepository.findById(contactId)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact not found"));
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         contactRepository.delete(contact);
+        searchIndexService.removeContact(userId, appId, contactId);
+        changeVersionService.bump(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.DashboardActivityDTO;
+import com.apptracker.dto.DashboardDTO;
+import com.apptracker.dto.DashboardReminderDTO;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.ReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the post-login dashboard (status counts, upcoming reminders, recent
+ * activity) with three small queries instead of the four endpoints the screen
+ * used to call.
+ *
+ * Summaries are cached per user and tagged with the user's change version.
+ * Every write to applications, reminders and the other child resources bumps
+ * that version, so a cached summary is reused only while nothing has changed
+ * and the short TTL has not passed; this holds across replicas too.
+ */
+@Service
+public class DashboardService {
+
+    private final ApplicationStatsService statsService;
+    private final ReminderRepository reminderRepository;
+    private final ActivityRepository activityRepository;
+    private final ChangeVersionService changeVersionService;
+    private final int reminderLimit;
+    private final int activityLimit;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<UUID, CachedDashboard> cache = new ConcurrentHashMap<>();
+
+    public DashboardService(ApplicationStatsService statsService,
+            ReminderRepository reminderRepository,
+            ActivityRepository activityRepository,
+            ChangeVersionService changeVersionService,
+            @Value("${app.dashboard.reminder-limit:5}") int reminderLimit,
+            @Value("${app.dashboard.activity-limit:10}") int activityLimit,
+            @Value("${app.cache.dashboard.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.cache.dashboard.max-entries:10000}") int maxEntries) {
+        this.statsService = statsService;
+        this.reminderRepository = reminderRepository;
+        this.activityRepository = activityRepository;
+        this.changeVersionService = changeVersionService;
+        this.reminderLimit = reminderLimit;
+        this.activityLimit = activityLimit;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    public DashboardDTO getDashboard(UUID userId) {
+        long version = changeVersionService.currentVersion(userId);
+        long now = System.currentTimeMillis();
+
+        CachedDashboard cached = cache.get(userId);
+        if (cached != null && cached.version == version && cached.expiresAt > now) {
+            return cached.dashboard;
+        }
+
+        Map<String, Long> statusCounts = statsService.getStatusCounts(userId);
+        List<DashboardReminderDTO> reminders = reminderRepository.findUpcomingForDashboard(
+                userId, PageRequest.of(0, reminderLimit));
+        List<DashboardActivityDTO> activity = activityRepository.findRecentForDashboard(
+                userId, PageRequest.of(0, activityLimit));
+        DashboardDTO dashboard = new DashboardDTO(statusCounts, reminders, activity);
+
+        if (cache.size() >= maxEntries && !cache.containsKey(userId)) {
+            evictExpired(now);
+        }
+        // Tagged with the version read before the queries, so a write that raced them invalidates the entry
+        cache.put(userId, new CachedDashboard(dashboard, version, now + ttlMillis));
+        return dashboard;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<CachedDashboard> it = cache.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt <= now) {
+                it.remove();
+            }
+        }
+        // Still full: start over rather than grow unbounded
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+    }
+
+    private record CachedDashboard(DashboardDTO dashboard, long version, long expiresAt) {
+    }
+}
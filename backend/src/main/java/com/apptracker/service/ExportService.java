@@ -0,0 +1,224 @@
+package com.apptracker.service;
+
+import com.apptracker.exception.BadRequestException;
+import com.apptracker.exception.TooManyRequestsException;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ApplicationExportRepository;
+import com.apptracker.repository.ApplicationExportRepository.ExportRow;
+import com.apptracker.util.StatusChangeMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Exports a user's applications with their status-change history. Output is
+ * written while rows are still being read from the database cursor, so
+ * neither the result set nor the response is ever held in memory.
+ *
+ * A running export holds a pooled connection and an open transaction for as
+ * long as the client takes to download it, so exports are capped globally
+ * and at one per user; requests over either limit are refused with 429
+ * before anything is streamed.
+ */
+@Service
+public class ExportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final String[] CSV_HEADERS = {
+            "id", "company", "role", "location", "status", "priority", "date_applied", "job_url",
+            "archived", "created_at", "updated_at", "change_from", "change_to", "changed_at"
+    };
+
+    private final ApplicationExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore exportSlots;
+    private final Set<UUID> exportingUsers = ConcurrentHashMap.newKeySet();
+
+    public ExportService(ApplicationExportRepository exportRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    public static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid export format: " + format + " (expected csv or ndjson)");
+        }
+    }
+
+    /**
+     * Reserves an export slot and builds the response body; the query runs
+     * when the container starts writing it, inside its own read-only
+     * transaction so the driver streams with a cursor. The slot is released
+     * once the body has been written or has failed.
+     *
+     * @throws TooManyRequestsException if the user already has an export
+     *                                  running or all slots are taken
+     */
+    public StreamingResponseBody exportHistory(UUID userId, Format format) {
+        if (!exportingUsers.add(userId)) {
+            throw new TooManyRequestsException("An export is already running for this account");
+        }
+        if (!exportSlots.tryAcquire()) {
+            exportingUsers.remove(userId);
+            throw new TooManyRequestsException("Too many exports are running, please try again shortly");
+        }
+        return out -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                try {
+                    readOnlyTransaction.executeWithoutResult(status -> {
+                        if (format == Format.CSV) {
+                            writeCsv(userId, writer);
+                        } else {
+                            writeNdjson(userId, writer);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                writer.flush();
+            } finally {
+                exportSlots.release();
+                exportingUsers.remove(userId);
+            }
+        };
+    }
+
+    // One row per (application, status change); applications without changes get one row
+    private void writeCsv(UUID userId, Writer writer) {
+        try {
+            CSVPrinter printer = CSVFormat.DEFAULT.builder()
+                    .setHeader(CSV_HEADERS)
+                    .get()
+                    .print(writer);
+            exportRepository.streamHistory(userId, row -> {
+                ApplicationEntity.Status[] transition = StatusChangeMessage.parse(row.changeMessage());
+                try {
+                    printer.printRecord(row.id(), csvText(row.company()), csvText(row.role()),
+                            csvText(row.location()), row.status(), row.priority(), row.dateApplied(),
+                            csvText(row.jobUrl()), row.archived(), row.createdAt(),
+                            row.updatedAt(),
+                            transition == null ? null : transition[0],
+                            transition == null ? null : transition[1],
+                            transition == null ? null : row.changedAt());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            printer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Neutralizes user-entered text that a spreadsheet would evaluate as a
+     * formula (CSV injection) by prefixing it with an apostrophe
+     */
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    // One JSON object per line per application, with its history nested
+    private void writeNdjson(UUID userId, Writer writer) {
+        NdjsonWriter ndjson = new NdjsonWriter(writer);
+        exportRepository.streamHistory(userId, ndjson::accept);
+        ndjson.flushCurrent();
+    }
+
+    /**
+     * Groups consecutive rows of the same application into one line. Only the
+     * application currently being read is held in memory.
+     */
+    private final class NdjsonWriter {
+        private final Writer writer;
+        private UUID currentId;
+        private Map<String, Object> current;
+        private List<Map<String, Object>> history;
+
+        NdjsonWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void accept(ExportRow row) {
+            if (!row.id().equals(currentId)) {
+                flushCurrent();
+                currentId = row.id();
+                history = new ArrayList<>();
+                current = new LinkedHashMap<>();
+                current.put("id", row.id());
+                current.put("company", row.company());
+                current.put("role", row.role());
+                current.put("location", row.location());
+                current.put("status", row.status());
+                current.put("priority", row.priority());
+                current.put("dateApplied", row.dateApplied());
+                current.put("jobUrl", row.jobUrl());
+                current.put("archived", row.archived());
+                current.put("createdAt", row.createdAt());
+                current.put("updatedAt", row.updatedAt());
+                current.put("history", history);
+            }
+
+            ApplicationEntity.Status[] transition = StatusChangeMessage.parse(row.changeMessage());
+            if (transition != null) {
+                Map<String, Object> change = new LinkedHashMap<>();
+                change.put("from", transition[0]);
+                change.put("to", transition[1]);
+                change.put("at", row.changedAt());
+                history.add(change);
+            }
+        }
+
+        void flushCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                writer.write(objectMapper.writeValueAsString(current));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+            currentId = null;
+        }
+    }
+}
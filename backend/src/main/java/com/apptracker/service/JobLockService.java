@@ -0,0 +1,84 @@
+package com.apptracker.service;
+
+import com.apptracker.repository.JobLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs scheduled jobs on exactly one node of a multi-replica deployment.
+ *
+ * Every node's scheduler still fires; the first node to take the job's lease
+ * in scheduled_job_locks runs it and the others skip that run. The lease is
+ * held for at least a minimum time even after a fast run, so a node whose
+ * clock or scheduler fires a little late does not run the job a second time.
+ * If the owning node dies, the lease expires after lockAtMost. Lease times are
+ * measured on the database clock, see JobLockRepository.
+ */
+@Service
+public class JobLockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLockService.class);
+
+    private final JobLockRepository jobLockRepository;
+    private final ScheduledJobMonitor jobMonitor;
+    private final String owner;
+    private final Duration minHold;
+
+    public JobLockService(JobLockRepository jobLockRepository,
+            ScheduledJobMonitor jobMonitor,
+            @Value("${app.jobs.lock.owner:}") String owner,
+            @Value("${app.jobs.lock.min-hold-seconds:60}") long minHoldSeconds) {
+        this.jobLockRepository = jobLockRepository;
+        this.jobMonitor = jobMonitor;
+        this.owner = owner.isEmpty() ? defaultOwner() : owner;
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+    }
+
+    /**
+     * Runs the task through {@link ScheduledJobMonitor} if this node can take
+     * the named lease
+     *
+     * @param name       Job name, unique per scheduled job
+     * @param lockAtMost Upper bound on how long a run may take; the lease
+     *                   expires after this even if the node never releases it
+     * @param task       The job body, returning the number of rows it processed
+     * @return true if the task ran on this node
+     */
+    public boolean runLocked(String name, Duration lockAtMost, LongSupplier task) {
+        if (!jobLockRepository.tryAcquire(name, owner, lockAtMost)) {
+            logger.info("Skipping job {}: lease is held by another node", name);
+            jobMonitor.recordSkipped(name);
+            return false;
+        }
+
+        try {
+            jobMonitor.run(name, task);
+            return true;
+        } finally {
+            jobLockRepository.release(name, owner, minHold);
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        // Suffix keeps two instances on one host (or restarts) distinct
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -16,21 +16,27 @@ import java.util.UUID;
 public class NoteService {
 
     private final NoteRepository noteRepository;
-    private final ApplicationService applicationService;
+    private final OwnershipService ownershipService;
     private final ActivityRepository activityRepository;
+    private final SearchIndexService searchIndexService;
+    private final ChangeVersionService changeVersionService;
 
     public NoteService(NoteRepository noteRepository,
-            ApplicationService applicationService,
-            ActivityRepository activityRepository) {
+            OwnershipService ownershipService,
+            ActivityRepository activityRepository,
+            SearchIndexService searchIndexService,
+            ChangeVersionService changeVersionService) {
         this.noteRepository = noteRepository;
-        this.applicationService = applicationService;
+        this.ownershipService = ownershipService;
         this.activityRepository = activityRepository;
+        this.searchIndexService = searchIndexService;
+        this.changeVersionService = changeVersionService;
     }
 
     @Transactional
     public Note createNote(UUID userId, UUID appId, CreateNoteRequest request) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         Note note = new Note();
         note.setApplicationId(appId);
@@ -45,20 +51,27 @@ public class NoteService {
         activity.setMessage("Note added");
         activityRepository.save(activity);
 
+        searchIndexService.indexNote(userId, saved);
+        changeVersionService.bump(userId);
+
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Note> getNotes(UUID userId, UUID appId) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         return noteRepository.findByApplicationIdOrderByCreatedAtDesc(appId);
     }
 
+    @Transactional
     public void deleteNote(UUID userId, UUID appId, UUID noteId) {
         Note note = noteRepository.findById(noteId)
                 .orElseThrow(() -> new ResourceNotFoundException("Note not found"));
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         noteRepository.delete(note);
+        searchIndexService.removeNote(userId, appId, noteId);
+        changeVersionService.bump(userId);
     }
 }
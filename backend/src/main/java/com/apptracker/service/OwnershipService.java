@@ -0,0 +1,110 @@
+package com.apptracker.service;
+
+import com.apptracker.exception.ResourceNotFoundException;
+import com.apptracker.exception.UnauthorizedException;
+import com.apptracker.repository.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies that an application belongs to a user without loading the
+ * application. Every child-resource endpoint (notes, contacts, reminders,
+ * attachments, activity) goes through here, so the check is layered:
+ * request-scoped memo, then a short-TTL cache of confirmed pairs, then a
+ * single indexed exists query on (id, user_id).
+ *
+ * Applications never change owner, so only deletion needs to invalidate:
+ * deleting an application or a whole account. Callers invalidate after the
+ * delete commits, since a check racing the open transaction still sees the
+ * row and could cache the pair again.
+ */
+@Service
+public class OwnershipService {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = OwnershipService.class.getName() + ".";
+
+    private final ApplicationRepository applicationRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // "userId:appId" -> expiry time in epoch millis; only confirmed ownership is cached
+    private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+
+    public OwnershipService(ApplicationRepository applicationRepository,
+            @Value("${app.cache.ownership.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.cache.ownership.max-entries:50000}") int maxEntries) {
+        this.applicationRepository = applicationRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the application does not exist
+     * @throws UnauthorizedException     if it exists but belongs to another user
+     */
+    public void verifyOwnership(UUID userId, UUID appId) {
+        String key = userId + ":" + appId;
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+                && request.getAttribute(REQUEST_ATTRIBUTE_PREFIX + key, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long expiresAt = confirmed.get(key);
+        if (expiresAt == null || expiresAt < now) {
+            if (!applicationRepository.existsByIdAndUserId(appId, userId)) {
+                confirmed.remove(key);
+                if (applicationRepository.existsById(appId)) {
+                    throw new UnauthorizedException("You do not have permission to access this application");
+                }
+                throw new ResourceNotFoundException("Application not found");
+            }
+            remember(key, now);
+        }
+
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_PREFIX + key, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Forgets a confirmed pair; called once the application's deletion commits
+     */
+    public void invalidate(UUID userId, UUID appId) {
+        confirmed.remove(userId + ":" + appId);
+    }
+
+    /**
+     * Forgets every confirmed pair of the user; called once the account's
+     * deletion commits. Scans the cache, which is fine for a rare event.
+     */
+    public void invalidateUser(UUID userId) {
+        String prefix = userId + ":";
+        confirmed.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void remember(String key, long now) {
+        if (confirmed.size() >= maxEntries) {
+            // Sweep expired entries first; if still full, start over rather than grow unbounded
+            Iterator<Long> it = confirmed.values().iterator();
+            while (it.hasNext()) {
+                if (it.next() < now) {
+                    it.remove();
+                }
+            }
+            if (confirmed.size() >= maxEntries) {
+                confirmed.clear();
+            }
+        }
+        confirmed.put(key, now + ttlMillis);
+    }
+}
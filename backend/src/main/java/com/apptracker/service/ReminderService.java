@@ -11,6 +11,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -21,28 +22,33 @@ public class ReminderService {
     private final ApplicationRepository applicationRepository;
 
     private final ReminderRepository reminderRepository;
-    private final ApplicationService applicationService;
+    private final OwnershipService ownershipService;
     private final ActivityRepository activityRepository;
     private final EmailService emailService;
     private final UserRepository userRepository;
+    private final ChangeVersionService changeVersionService;
+    private final JobLockService jobLockService;
     private static final Logger logger = LoggerFactory.getLogger(ReminderService.class);
 
     public ReminderService(ReminderRepository reminderRepository,
-            ApplicationService applicationService,
+            OwnershipService ownershipService,
             ActivityRepository activityRepository, EmailService emailService, UserRepository userRepository,
-            ApplicationRepository applicationRepository) {
+            ApplicationRepository applicationRepository, ChangeVersionService changeVersionService,
+            JobLockService jobLockService) {
         this.reminderRepository = reminderRepository;
-        this.applicationService = applicationService;
+        this.ownershipService = ownershipService;
         this.activityRepository = activityRepository;
         this.emailService = emailService;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
+        this.changeVersionService = changeVersionService;
+        this.jobLockService = jobLockService;
     }
 
     @Transactional
     public Reminder createReminder(UUID userId, UUID appId, CreateReminderRequest request) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         Reminder reminder = new Reminder();
         reminder.setApplicationId(appId);
@@ -58,20 +64,25 @@ public class ReminderService {
         activity.setMessage("Reminder set for " + request.getRemindAt());
         activityRepository.save(activity);
 
+        changeVersionService.bump(userId);
+
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Reminder> getReminders(UUID userId, UUID appId) {
         // Verify ownership
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
         return reminderRepository.findByApplicationIdOrderByRemindAtAsc(appId);
     }
 
+    @Transactional(readOnly = true)
     public List<Reminder> getDueReminders(UUID userId, int days) {
         OffsetDateTime until = OffsetDateTime.now().plusDays(days);
         return reminderRepository.findDueRemindersByUser(userId, until);
     }
 
+    @Transactional(readOnly = true)
     public List<Reminder> getAllIncompleteReminders(UUID userId) {
         return reminderRepository.findAllIncompleteRemindersByUser(userId);
     }
@@ -82,10 +93,12 @@ public class ReminderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Reminder not found"));
 
         // Verify ownership through application
-        applicationService.getApplicationEntityById(userId, reminder.getApplicationId());
+        ownershipService.verifyOwnership(userId, reminder.getApplicationId());
 
         reminder.setCompleted(true);
-        return reminderRepository.save(reminder);
+        Reminder saved = reminderRepository.save(reminder);
+        changeVersionService.bump(userId);
+        return saved;
     }
 
     @Transactional
@@ -94,9 +107,10 @@ public class ReminderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Reminder not found"));
 
         // Verify ownership through application
-        applicationService.getApplicationEntityById(userId, appId);
+        ownershipService.verifyOwnership(userId, appId);
 
         reminderRepository.delete(reminder);
+        changeVersionService.bump(userId);
     }
 
     /**
@@ -105,44 +119,50 @@ public class ReminderService {
      */
     @Scheduled(cron = "0 0 * * * *")
     public void sendReminderNotifications() {
-        logger.info("Checking for reminders to send");
-
         try {
-            OffsetDateTime now = OffsetDateTime.now();
-            OffsetDateTime oneHourFromNow = now.plusHours(1);
-
-            // Get all incomplete reminders that are due within the next hour
-            List<Reminder> dueReminders = reminderRepository.findAll().stream()
-                    .filter(r -> !r.isCompleted())
-                    .filter(r -> r.getRemindAt().isAfter(now) && r.getRemindAt().isBefore(oneHourFromNow))
-                    .toList();
-
-            if (dueReminders.isEmpty()) {
-                logger.info("No reminders due within the next hour");
-                return;
-            }
-
-            logger.info("Found {} reminders due within the next hour", dueReminders.size());
-
-            for (Reminder reminder : dueReminders) {
-                // Get the application for this reminder
-                applicationRepository.findById(reminder.getApplicationId()).ifPresent(application -> {
-                    // Get the user for this application
-                    userRepository.findById(application.getUserId()).ifPresent(user -> {
-                        if (user.isEmailNotifications()) {
-                            sendReminderEmail(user, reminder, application);
-                        } else {
-                            logger.debug("Skipping email for user {} - notifications disabled", user.getEmail());
-                        }
-                    });
-                });
-            }
-
+            // Leased for less than the hourly period so a crashed run cannot swallow the next one
+            jobLockService.runLocked("send-reminder-notifications", Duration.ofMinutes(50),
+                    this::sendDueReminders);
         } catch (Exception e) {
             logger.error("Error sending reminder notifications", e);
         }
     }
 
+    private long sendDueReminders() {
+        logger.info("Checking for reminders to send");
+
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime oneHourFromNow = now.plusHours(1);
+
+        // Get all incomplete reminders that are due within the next hour
+        List<Reminder> dueReminders = reminderRepository.findAll().stream()
+                .filter(r -> !r.isCompleted())
+                .filter(r -> r.getRemindAt().isAfter(now) && r.getRemindAt().isBefore(oneHourFromNow))
+                .toList();
+
+        if (dueReminders.isEmpty()) {
+            logger.info("No reminders due within the next hour");
+            return 0;
+        }
+
+        logger.info("Found {} reminders due within the next hour", dueReminders.size());
+
+        for (Reminder reminder : dueReminders) {
+            // Get the application for this reminder
+            applicationRepository.findById(reminder.getApplicationId()).ifPresent(application -> {
+                // Get the user for this application
+                userRepository.findById(application.getUserId()).ifPresent(user -> {
+                    if (user.isEmailNotifications()) {
+                        sendReminderEmail(user, reminder, application);
+                    } else {
+                        logger.debug("Skipping email for user {} - notifications disabled", user.getEmail());
+                    }
+                });
+            });
+        }
+        return dueReminders.size();
+    }
+
     /**
      * Sends reminder email to user about an upcoming application deadline
      */
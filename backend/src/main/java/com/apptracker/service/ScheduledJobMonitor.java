@@ -0,0 +1,170 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ScheduledJobStatusDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Wraps scheduled job runs with metrics and keeps each job's latest state for
+ * the scheduledjobs actuator endpoint.
+ *
+ * Per job (tag {@code job}): a {@code scheduled.job.duration} timer tagged
+ * with the outcome, {@code scheduled.job.rows} and {@code scheduled.job.skipped}
+ * counters, and {@code scheduled.job.running}, {@code scheduled.job.last.success}
+ * and {@code scheduled.job.last.failure} gauges (epoch seconds, 0 if never).
+ * Alerting on the age of last.success catches a job that has silently stopped.
+ */
+@Component
+public class ScheduledJobMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    public ScheduledJobMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a job body and records its outcome. Exceptions are recorded and
+     * rethrown to the caller.
+     *
+     * @param job  Job name, used as the metric tag
+     * @param body Job body returning the number of rows or items it processed
+     * @return the body's result
+     */
+    public long run(String job, LongSupplier body) {
+        JobState state = state(job);
+        long start = System.nanoTime();
+        state.started();
+        try {
+            long rows = body.getAsLong();
+            state.succeeded(rows, System.nanoTime() - start);
+            return rows;
+        } catch (RuntimeException | Error e) {
+            state.failed(e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Records a firing that was skipped because another node held the job's lease
+     */
+    public void recordSkipped(String job) {
+        state(job).skipped();
+    }
+
+    public List<ScheduledJobStatusDTO> getStatuses() {
+        List<ScheduledJobStatusDTO> statuses = new ArrayList<>();
+        for (Map.Entry<String, JobState> entry : jobs.entrySet()) {
+            statuses.add(entry.getValue().toDTO(entry.getKey()));
+        }
+        statuses.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return statuses;
+    }
+
+    private JobState state(String job) {
+        return jobs.computeIfAbsent(job, name -> new JobState(meterRegistry, name));
+    }
+
+    private static final class JobState {
+        private final Timer successTimer;
+        private final Timer failureTimer;
+        private final Counter rowsCounter;
+        private final Counter skippedCounter;
+
+        // Written under the monitor of this object, read without it by the gauges
+        private volatile int running;
+        private volatile long runs;
+        private volatile long failures;
+        private volatile long skips;
+        private volatile long totalRows;
+        private volatile long lastRows;
+        private volatile long lastDurationMillis;
+        private volatile Instant lastStartedAt;
+        private volatile Instant lastSuccessAt;
+        private volatile Instant lastFailureAt;
+        private volatile String lastError;
+
+        JobState(MeterRegistry registry, String job) {
+            this.successTimer = Timer.builder("scheduled.job.duration")
+                    .tags("job", job, "outcome", "success").register(registry);
+            this.failureTimer = Timer.builder("scheduled.job.duration")
+                    .tags("job", job, "outcome", "failure").register(registry);
+            this.rowsCounter = Counter.builder("scheduled.job.rows").tag("job", job).register(registry);
+            this.skippedCounter = Counter.builder("scheduled.job.skipped").tag("job", job).register(registry);
+            Gauge.builder("scheduled.job.running", this, s -> s.running).tag("job", job).register(registry);
+            Gauge.builder("scheduled.job.last.success", this, s -> epochSeconds(s.lastSuccessAt))
+                    .tag("job", job).register(registry);
+            Gauge.builder("scheduled.job.last.failure", this, s -> epochSeconds(s.lastFailureAt))
+                    .tag("job", job).register(registry);
+        }
+
+        synchronized void started() {
+            running++;
+            lastStartedAt = Instant.now();
+        }
+
+        synchronized void succeeded(long rows, long nanos) {
+            running--;
+            runs++;
+            totalRows += rows;
+            lastRows = rows;
+            lastDurationMillis = nanos / 1_000_000;
+            lastSuccessAt = Instant.now();
+            successTimer.record(nanos, TimeUnit.NANOSECONDS);
+            rowsCounter.increment(rows);
+        }
+
+        synchronized void failed(Throwable error, long nanos) {
+            running--;
+            runs++;
+            failures++;
+            lastDurationMillis = nanos / 1_000_000;
+            lastFailureAt = Instant.now();
+            lastError = error.getClass().getSimpleName() + ": " + error.getMessage();
+            failureTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        synchronized void skipped() {
+            skips++;
+            skippedCounter.increment();
+        }
+
+        synchronized ScheduledJobStatusDTO toDTO(String name) {
+            ScheduledJobStatusDTO dto = new ScheduledJobStatusDTO(name);
+            dto.setRunning(running > 0);
+            dto.setRuns(runs);
+            dto.setFailures(failures);
+            dto.setSkipped(skips);
+            dto.setTotalRows(totalRows);
+            dto.setLastRows(lastRows);
+            dto.setLastDurationMillis(lastDurationMillis);
+            dto.setLastStartedAt(toOffset(lastStartedAt));
+            dto.setLastSuccessAt(toOffset(lastSuccessAt));
+            dto.setLastFailureAt(toOffset(lastFailureAt));
+            dto.setLastError(lastError);
+            return dto;
+        }
+
+        private static double epochSeconds(Instant instant) {
+            return instant == null ? 0 : instant.getEpochSecond();
+        }
+
+        private static OffsetDateTime toOffset(Instant instant) {
+            return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+        }
+    }
+}
@@ -1,18 +1,14 @@
 package com.apptracker.service;
 
 import com.apptracker.dto.OpenJob;
-import com.apptracker.model.ApplicationEntity;
-import com.apptracker.model.User;
-import com.apptracker.repository.ApplicationRepository;
-import com.apptracker.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,16 +21,32 @@ public class ScheduledTaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScheduledTaskService.class);
 
-    private final ApplicationRepository applicationRepo;
-    private final UserRepository userRepo;
+    private final ApplicationStatsService statsService;
+    private final CompanyStatsService companyStatsService;
+    private final AutoArchiveService autoArchiveService;
+    private final UnverifiedUserCleanupService unverifiedUserCleanupService;
+    private final TokenPurgeService tokenPurgeService;
+    private final JobLockService jobLockService;
+    private final ScheduledJobMonitor jobMonitor;
+
+    // Daily jobs finish well within this; a lease outliving a crashed node expires after it
+    private static final Duration DAILY_JOB_LEASE = Duration.ofHours(1);
 
     // In-memory cache for open job postings from GitHub
     // Refreshed every 12 hours by the scheduled task
     private List<OpenJob> cachedOpenJobs = new ArrayList<>();
 
-    public ScheduledTaskService(ApplicationRepository applicationRepo, UserRepository userRepo) {
-        this.applicationRepo = applicationRepo;
-        this.userRepo = userRepo;
+    public ScheduledTaskService(ApplicationStatsService statsService, CompanyStatsService companyStatsService,
+            AutoArchiveService autoArchiveService, UnverifiedUserCleanupService unverifiedUserCleanupService,
+            TokenPurgeService tokenPurgeService, JobLockService jobLockService,
+            ScheduledJobMonitor jobMonitor) {
+        this.statsService = statsService;
+        this.companyStatsService = companyStatsService;
+        this.autoArchiveService = autoArchiveService;
+        this.unverifiedUserCleanupService = unverifiedUserCleanupService;
+        this.tokenPurgeService = tokenPurgeService;
+        this.jobLockService = jobLockService;
+        this.jobMonitor = jobMonitor;
     }
 
     /**
@@ -56,43 +68,14 @@ public class ScheduledTaskService {
      * for users who have enabled the auto-archive preference
      */
     @Scheduled(cron = "0 0 2 * * *")
-    @Transactional
     public void autoArchiveOldRejectedApplications() {
-        logger.info("Running scheduled task: auto-archive old rejected applications");
-
         try {
-            // Get all users who have auto-archive enabled
-            List<User> usersWithAutoArchive = userRepo.findAll().stream()
-                    .filter(User::isAutoArchiveOldApps)
-                    .toList();
-
-            logger.info("Found {} users with auto-archive enabled", usersWithAutoArchive.size());
-
-            int totalArchived = 0;
-
-            for (User user : usersWithAutoArchive) {
-                // Calculate the cutoff date (30 days ago)
-                OffsetDateTime cutoffDate = OffsetDateTime.now().minusDays(30);
-
-                // Find all rejected, non-archived applications for this user that are older
-                // than 30 days
-                List<ApplicationEntity> applicationsToArchive = applicationRepo.findAll().stream()
-                        .filter(app -> app.getUserId().equals(user.getId()))
-                        .filter(app -> "REJECTED".equals(app.getStatus()))
-                        .filter(app -> !app.isArchived())
-                        .filter(app -> app.getUpdatedAt() != null && app.getUpdatedAt().isBefore(cutoffDate))
-                        .toList();
-
-                // Archive them
-                for (ApplicationEntity app : applicationsToArchive) {
-                    app.setArchived(true);
-                    applicationRepo.save(app);
-                    totalArchived++;
-                }
-            }
-
-            logger.info("Auto-archive task completed. Archived {} applications", totalArchived);
-
+            jobLockService.runLocked("auto-archive", DAILY_JOB_LEASE, () -> {
+                logger.info("Running scheduled task: auto-archive old rejected applications");
+                int totalArchived = autoArchiveService.archiveOldRejected();
+                logger.info("Auto-archive task completed. Archived {} applications", totalArchived);
+                return totalArchived;
+            });
         } catch (Exception e) {
             logger.error("Error during auto-archive task", e);
         }
@@ -100,58 +83,108 @@ public class ScheduledTaskService {
 
     /**
      * Scheduled to run every 12 hours (12 PM and 12 AM) to fetch new internship
-     * postings from GitHub
+     * postings from GitHub. Not lease-locked: the cache is per node, so every
+     * replica has to refresh its own copy.
      */
     @Scheduled(cron = "0 0 */12 * * *")
     public void refreshOpenJobsCache() {
-        logger.info("Starting scheduled task: refresh open internship applications cache from GitHub");
-
         try {
+            jobMonitor.run("refresh-open-jobs-cache", this::fetchOpenJobs);
+        } catch (Exception e) {
+            logger.error("Error fetching open applications from GitHub", e);
+        }
+    }
 
-            String url = "https://raw.githubusercontent.com/vanshb03/Summer2026-Internships/main/README.md";
-            RestTemplate restTemplate = new RestTemplate();
+    private long fetchOpenJobs() {
+        logger.info("Starting scheduled task: refresh open internship applications cache from GitHub");
 
-            logger.info("Fetching markdown from: {}", url);
-            String markdown = restTemplate.getForObject(url, String.class);
+        String url = "https://raw.githubusercontent.com/vanshb03/Summer2026-Internships/main/README.md";
+        RestTemplate restTemplate = new RestTemplate();
 
-            if (markdown == null || markdown.isEmpty()) {
-                logger.warn("No markdown content retrieved from GitHub");
-                return;
-            }
+        logger.info("Fetching markdown from: {}", url);
+        String markdown = restTemplate.getForObject(url, String.class);
 
-            logger.info("Successfully fetched markdown ({} characters)", markdown.length());
+        if (markdown == null || markdown.isEmpty()) {
+            logger.warn("No markdown content retrieved from GitHub");
+            return 0;
+        }
 
-            List<OpenJob> applications = parseMarkdownTable(markdown);
+        logger.info("Successfully fetched markdown ({} characters)", markdown.length());
 
-            logger.info("Parsed {} total internship applications from GitHub", applications.size());
+        List<OpenJob> applications = parseMarkdownTable(markdown);
 
-            this.cachedOpenJobs = applications;
+        logger.info("Parsed {} total internship applications from GitHub", applications.size());
 
-            logger.info("Successfully updated job cache with {} postings", applications.size());
+        this.cachedOpenJobs = applications;
 
-        } catch (Exception e) {
-            logger.error("Error fetching open applications from GitHub", e);
-        }
+        logger.info("Successfully updated job cache with {} postings", applications.size());
+        return applications.size();
     }
 
-    @Transactional
     @Scheduled(cron = "0 0 1 * * *")
     public void removeUnverifiedUsers() {
-        logger.info("Starting scheduled task: remove unverified users older than 7 days");
+        try {
+            jobLockService.runLocked("remove-unverified-users", DAILY_JOB_LEASE, () -> {
+                logger.info("Starting scheduled task: remove stale unverified users");
+                int removed = unverifiedUserCleanupService.removeStaleUnverifiedUsers();
+                logger.info("Removed {} stale unverified users", removed);
+                return removed;
+            });
+        } catch (Exception e) {
+            logger.error("Error removing unverified users", e);
+        }
+    }
 
+    /**
+     * Runs daily at 3 AM to rebuild per-user application counters that have
+     * drifted from the applications table
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void reconcileApplicationStats() {
         try {
-            List<User> unverifiedUsers = userRepo
-                    .findByEmailVerifiedFalseAndCreatedAtBefore(OffsetDateTime.now().minusDays(7));
-            if (!unverifiedUsers.isEmpty()) {
-                userRepo.deleteAll(unverifiedUsers);
-                logger.info("Removed {} unverified users older than 7 days", unverifiedUsers.size());
-
-            } else {
-                logger.info("No unverified users found for removal");
-            }
+            jobLockService.runLocked("reconcile-application-stats", DAILY_JOB_LEASE, () -> {
+                logger.info("Starting scheduled task: reconcile application stats");
+                int corrected = statsService.reconcile();
+                logger.info("Application stats reconciliation completed. Corrected {} users", corrected);
+                return corrected;
+            });
+        } catch (Exception e) {
+            logger.error("Error reconciling application stats", e);
+        }
+    }
+
+    /**
+     * Runs daily at 4 AM to recompute the anonymized per-company response rates
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void recomputeCompanyResponseRates() {
+        try {
+            jobLockService.runLocked("recompute-company-response-rates", DAILY_JOB_LEASE, () -> {
+                logger.info("Starting scheduled task: recompute company response rates");
+                int published = companyStatsService.recompute();
+                logger.info("Company response rates recomputed. Published {} companies", published);
+                return published;
+            });
+        } catch (Exception e) {
+            logger.error("Error recomputing company response rates", e);
+        }
+    }
 
+    /**
+     * Runs daily at 5 AM to purge expired and used password reset and email
+     * verification tokens
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void purgeExpiredTokens() {
+        try {
+            jobLockService.runLocked("purge-expired-tokens", DAILY_JOB_LEASE, () -> {
+                logger.info("Starting scheduled task: purge expired tokens");
+                long purged = tokenPurgeService.purge();
+                logger.info("Token purge completed. Removed {} tokens", purged);
+                return purged;
+            });
         } catch (Exception e) {
-            logger.error("Error removing unverified users", e);
+            logger.error("Error purging expired tokens", e);
         }
     }
 
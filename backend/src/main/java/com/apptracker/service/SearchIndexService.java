@@ -0,0 +1,473 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.model.Contact;
+import com.apptracker.model.Note;
+import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.repository.ContactRepository;
+import com.apptracker.repository.NoteRepository;
+import com.apptracker.util.SearchTokenizer;
+import com.apptracker.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory, per-user inverted index over applications and their notes and
+ * contacts. A user's index is built lazily on their first search and then kept
+ * current by the owning services on every mutation, so search-as-you-type never
+ * needs a database round trip.
+ *
+ * Each application gets a dense int document id; postings map a token to a
+ * sorted int[] of document ids. Indexes are evicted least-recently-used first
+ * once the total number of postings exceeds the configured budget.
+ *
+ * Updates that commit while an index is being built are recorded and replayed
+ * onto it before it is installed, so a build that read the database before a
+ * write committed never caches the pre-write state.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final NoteRepository noteRepository;
+    private final ContactRepository contactRepository;
+    private final long maxPostings;
+
+    // Access-ordered so iteration starts at the least recently used index
+    private final LinkedHashMap<UUID, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    // Builds in flight per user; guarded by the indexes lock
+    private final Map<UUID, List<PendingBuild>> building = new HashMap<>();
+
+    public SearchIndexService(ApplicationRepository applicationRepository,
+            NoteRepository noteRepository,
+            ContactRepository contactRepository,
+            @Value("${app.search.index.max-postings:2000000}") long maxPostings) {
+        this.applicationRepository = applicationRepository;
+        this.noteRepository = noteRepository;
+        this.contactRepository = contactRepository;
+        this.maxPostings = maxPostings;
+    }
+
+    /**
+     * Prefix search over company, role, location, note content and contact
+     * details. Every query term must match (as a prefix) somewhere in the
+     * application or one of its notes or contacts.
+     */
+    public List<ApplicationDTO> search(UUID userId, String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        UserIndex index = getOrBuild(userId);
+        List<ApplicationDTO> matches;
+        synchronized (index) {
+            matches = index.search(terms);
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparing(ApplicationDTO::getCreatedAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void indexApplication(ApplicationEntity app) {
+        ApplicationDTO snapshot = new ApplicationDTO(app);
+        String[] tokens = tokens(app.getCompany(), app.getRole(), app.getLocation());
+        applyAfterCommit(app.getUserId(), index -> index.putApplication(snapshot, tokens));
+    }
+
+    public void removeApplication(UUID userId, UUID appId) {
+        applyAfterCommit(userId, index -> index.removeApplication(appId));
+    }
+
+    public void indexNote(UUID userId, Note note) {
+        String[] tokens = tokens(note.getContent());
+        applyAfterCommit(userId, index -> index.putSource(note.getApplicationId(), note.getId(), tokens));
+    }
+
+    public void removeNote(UUID userId, UUID appId, UUID noteId) {
+        applyAfterCommit(userId, index -> index.removeSource(appId, noteId));
+    }
+
+    public void indexContact(UUID userId, Contact contact) {
+        String[] tokens = tokens(contact.getName(), contact.getEmail(), contact.getNotes());
+        applyAfterCommit(userId, index -> index.putSource(contact.getApplicationId(), contact.getId(), tokens));
+    }
+
+    public void removeContact(UUID userId, UUID appId, UUID contactId) {
+        applyAfterCommit(userId, index -> index.removeSource(appId, contactId));
+    }
+
+    /**
+     * Drops a user's index so it is rebuilt from the database on next search.
+     * Used after bulk changes that bypass the incremental hooks and after the
+     * user is deleted. A build already in flight is used for its own search but
+     * not cached.
+     */
+    public void invalidate(UUID userId) {
+        synchronized (indexes) {
+            indexes.remove(userId);
+            for (PendingBuild pending : building.getOrDefault(userId, List.of())) {
+                pending.invalidated = true;
+            }
+        }
+    }
+
+    /**
+     * Applies an incremental update once the surrounding transaction commits, so
+     * a rolled back write never leaks into the index. Users without a built
+     * index are skipped, unless a build is in flight, which replays the update
+     * before installing its index.
+     */
+    private void applyAfterCommit(UUID userId, IndexUpdate update) {
+        Runnable apply = () -> {
+            UserIndex index;
+            synchronized (indexes) {
+                index = indexes.get(userId);
+                if (index == null) {
+                    for (PendingBuild pending : building.getOrDefault(userId, List.of())) {
+                        pending.updates.add(update);
+                    }
+                    return;
+                }
+            }
+            synchronized (index) {
+                update.apply(index);
+            }
+            enforceBudget();
+        };
+
+        TransactionUtils.afterCommit(apply);
+    }
+
+    private UserIndex getOrBuild(UUID userId) {
+        PendingBuild pending = new PendingBuild();
+        synchronized (indexes) {
+            UserIndex existing = indexes.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            building.computeIfAbsent(userId, id -> new ArrayList<>()).add(pending);
+        }
+
+        // Build outside the cache lock so one user's load does not block others
+        UserIndex built;
+        try {
+            built = build(userId);
+        } catch (RuntimeException e) {
+            synchronized (indexes) {
+                finishBuild(userId, pending);
+            }
+            throw e;
+        }
+
+        // Replay and install under one lock hold so no update can fall in between
+        synchronized (indexes) {
+            finishBuild(userId, pending);
+            // Not yet visible to other threads, so no need to lock the index itself
+            for (IndexUpdate update : pending.updates) {
+                update.apply(built);
+            }
+            if (pending.invalidated) {
+                return built;
+            }
+            UserIndex raced = indexes.putIfAbsent(userId, built);
+            if (raced != null) {
+                return raced;
+            }
+        }
+        enforceBudget();
+        return built;
+    }
+
+    // Caller holds the indexes lock
+    private void finishBuild(UUID userId, PendingBuild pending) {
+        List<PendingBuild> inFlight = building.get(userId);
+        inFlight.remove(pending);
+        if (inFlight.isEmpty()) {
+            building.remove(userId);
+        }
+    }
+
+    private UserIndex build(UUID userId) {
+        long start = System.nanoTime();
+        UserIndex index = new UserIndex();
+
+        for (ApplicationEntity app : applicationRepository.findAllByUserId(userId)) {
+            index.putApplication(new ApplicationDTO(app), tokens(app.getCompany(), app.getRole(), app.getLocation()));
+        }
+        for (Note note : noteRepository.findAllByUserId(userId)) {
+            index.putSource(note.getApplicationId(), note.getId(), tokens(note.getContent()));
+        }
+        for (Contact contact : contactRepository.findAllByUserId(userId)) {
+            index.putSource(contact.getApplicationId(), contact.getId(),
+                    tokens(contact.getName(), contact.getEmail(), contact.getNotes()));
+        }
+
+        logger.debug("Built search index for user {} with {} postings in {} ms",
+                userId, index.postingCount, (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    private void enforceBudget() {
+        synchronized (indexes) {
+            long total = 0;
+            for (UserIndex index : indexes.values()) {
+                total += index.postingCount;
+            }
+
+            // Always keep the most recently used index, even if it alone exceeds the budget
+            Iterator<Map.Entry<UUID, UserIndex>> it = indexes.entrySet().iterator();
+            while (total > maxPostings && indexes.size() > 1 && it.hasNext()) {
+                Map.Entry<UUID, UserIndex> eldest = it.next();
+                total -= eldest.getValue().postingCount;
+                it.remove();
+                logger.debug("Evicted search index for user {}", eldest.getKey());
+            }
+        }
+    }
+
+    private static String[] tokens(String... fields) {
+        Set<String> tokens = new HashSet<>();
+        for (String field : fields) {
+            tokens.addAll(SearchTokenizer.tokenize(field));
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void apply(UserIndex index);
+    }
+
+    // Updates committed while one build was reading the database
+    private static final class PendingBuild {
+        private final List<IndexUpdate> updates = new ArrayList<>();
+        private boolean invalidated;
+    }
+
+    /**
+     * One user's index. Not thread-safe; callers synchronize on the instance.
+     */
+    static final class UserIndex {
+        // Removed documents tolerated before their slots are reclaimed
+        static final int COMPACT_MIN_REMOVED = 256;
+
+        private Map<UUID, Integer> docIdByApp = new HashMap<>();
+        // docId -> snapshot, null once the application has been removed
+        private List<ApplicationDTO> docs = new ArrayList<>();
+        // docId -> sourceId -> tokens; the application itself is one source, each note/contact another
+        private List<Map<UUID, String[]>> sources = new ArrayList<>();
+        // docId -> tokens currently posted for that document
+        private List<Set<String>> docTokens = new ArrayList<>();
+        private TreeMap<String, IntPostings> postings = new TreeMap<>();
+        private long postingCount;
+        private int removedDocs;
+
+        void putApplication(ApplicationDTO snapshot, String[] tokens) {
+            int docId = docIdFor(snapshot.getId());
+            docs.set(docId, snapshot);
+            sources.get(docId).put(snapshot.getId(), tokens);
+            reindex(docId);
+        }
+
+        void removeApplication(UUID appId) {
+            Integer docId = docIdByApp.remove(appId);
+            if (docId == null) {
+                return;
+            }
+            docs.set(docId, null);
+            sources.get(docId).clear();
+            reindex(docId);
+
+            removedDocs++;
+            if (removedDocs >= COMPACT_MIN_REMOVED && removedDocs * 2 >= docs.size()) {
+                compact();
+            }
+        }
+
+        void putSource(UUID appId, UUID sourceId, String[] tokens) {
+            Integer docId = docIdByApp.get(appId);
+            if (docId == null) {
+                return;
+            }
+            sources.get(docId).put(sourceId, tokens);
+            reindex(docId);
+        }
+
+        void removeSource(UUID appId, UUID sourceId) {
+            Integer docId = docIdByApp.get(appId);
+            if (docId == null) {
+                return;
+            }
+            sources.get(docId).remove(sourceId);
+            reindex(docId);
+        }
+
+        List<ApplicationDTO> search(List<String> terms) {
+            BitSet result = null;
+            for (String term : terms) {
+                BitSet termMatches = new BitSet(docs.size());
+                // Prefix match: every token in [term, term + U+FFFF) starts with term
+                for (IntPostings list : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    list.addTo(termMatches);
+                }
+                if (result == null) {
+                    result = termMatches;
+                } else {
+                    result.and(termMatches);
+                }
+                if (result.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<ApplicationDTO> matches = new ArrayList<>(result.cardinality());
+            for (int docId = result.nextSetBit(0); docId >= 0; docId = result.nextSetBit(docId + 1)) {
+                ApplicationDTO doc = docs.get(docId);
+                if (doc != null && !doc.isArchived()) {
+                    matches.add(doc);
+                }
+            }
+            return matches;
+        }
+
+        // Number of document id slots, including ones freed by removals
+        int documentSlots() {
+            return docs.size();
+        }
+
+        // Renumbers the live documents densely so slots of removed ones are reclaimed
+        private void compact() {
+            List<ApplicationDTO> liveDocs = new ArrayList<>();
+            List<Map<UUID, String[]>> liveSources = new ArrayList<>();
+            for (int docId = 0; docId < docs.size(); docId++) {
+                if (docs.get(docId) != null) {
+                    liveDocs.add(docs.get(docId));
+                    liveSources.add(sources.get(docId));
+                }
+            }
+
+            docIdByApp = new HashMap<>();
+            docs = new ArrayList<>(liveDocs.size());
+            sources = new ArrayList<>(liveDocs.size());
+            docTokens = new ArrayList<>(liveDocs.size());
+            postings = new TreeMap<>();
+            postingCount = 0;
+            removedDocs = 0;
+
+            for (int i = 0; i < liveDocs.size(); i++) {
+                ApplicationDTO doc = liveDocs.get(i);
+                int docId = docIdFor(doc.getId());
+                docs.set(docId, doc);
+                sources.set(docId, liveSources.get(i));
+                reindex(docId);
+            }
+        }
+
+        private int docIdFor(UUID appId) {
+            Integer existing = docIdByApp.get(appId);
+            if (existing != null) {
+                return existing;
+            }
+            int docId = docs.size();
+            docIdByApp.put(appId, docId);
+            docs.add(null);
+            sources.add(new HashMap<>());
+            docTokens.add(new HashSet<>());
+            return docId;
+        }
+
+        // Diffs the document's token set against what is posted and applies only the delta
+        private void reindex(int docId) {
+            Set<String> current = new HashSet<>();
+            for (String[] sourceTokens : sources.get(docId).values()) {
+                current.addAll(Arrays.asList(sourceTokens));
+            }
+
+            Set<String> previous = docTokens.get(docId);
+            for (String token : previous) {
+                if (!current.contains(token)) {
+                    IntPostings list = postings.get(token);
+                    if (list != null && list.remove(docId)) {
+                        postingCount--;
+                        if (list.isEmpty()) {
+                            postings.remove(token);
+                        }
+                    }
+                }
+            }
+            for (String token : current) {
+                if (!previous.contains(token)) {
+                    if (postings.computeIfAbsent(token, t -> new IntPostings()).add(docId)) {
+                        postingCount++;
+                    }
+                }
+            }
+            docTokens.set(docId, current);
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free list of document ids backed by a primitive int array
+     */
+    static final class IntPostings {
+        private int[] ids = new int[4];
+        private int size;
+
+        boolean add(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(ids[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.StatusFunnelDTO;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.util.StatusChangeMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Builds the status funnel (how many applications ever reached each status)
+ * and time-in-stage percentiles from the STATUS_CHANGED activity log.
+ *
+ * The activity rows are consumed in one pass straight off a database cursor;
+ * only one application's state and a primitive array of durations per status
+ * are held in memory.
+ */
+@Service
+public class StatusFunnelService {
+
+    private static final ApplicationEntity.Status[] STATUSES = ApplicationEntity.Status.values();
+
+    private final ActivityRepository activityRepository;
+
+    public StatusFunnelService(ActivityRepository activityRepository) {
+        this.activityRepository = activityRepository;
+    }
+
+    // Read-only transaction keeps the connection in non-autocommit mode so the driver streams with a cursor
+    @Transactional(readOnly = true)
+    public StatusFunnelDTO getFunnel(UUID userId) {
+        FunnelAccumulator accumulator = new FunnelAccumulator();
+        activityRepository.streamStatusHistory(userId, accumulator::accept);
+        accumulator.finish();
+        return accumulator.toDTO();
+    }
+
+    /**
+     * Consumes rows ordered by (application_id, created_at). Not thread-safe.
+     */
+    static final class FunnelAccumulator {
+        private final long[] reached = new long[STATUSES.length];
+        private final LongArray[] durations = new LongArray[STATUSES.length];
+        private long applications;
+
+        // State of the application currently being read
+        private UUID currentApp;
+        private int reachedMask;
+        private long enteredAt;
+
+        FunnelAccumulator() {
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = new LongArray();
+            }
+        }
+
+        void accept(UUID applicationId, String currentStatus, OffsetDateTime applicationCreatedAt,
+                String message, OffsetDateTime changedAt) {
+            if (!applicationId.equals(currentApp)) {
+                finish();
+                currentApp = applicationId;
+                applications++;
+                enteredAt = applicationCreatedAt.toEpochSecond();
+            }
+
+            if (message == null) {
+                // No recorded transitions: the application has only ever been in its current status
+                markReached(ApplicationEntity.Status.valueOf(currentStatus));
+                return;
+            }
+
+            ApplicationEntity.Status[] transition = StatusChangeMessage.parse(message);
+            if (transition == null) {
+                return;
+            }
+            ApplicationEntity.Status from = transition[0];
+            ApplicationEntity.Status to = transition[1];
+            long changedAtSeconds = changedAt.toEpochSecond();
+
+            markReached(from);
+            long duration = changedAtSeconds - enteredAt;
+            if (duration >= 0) {
+                durations[from.ordinal()].add(duration);
+            }
+
+            enteredAt = changedAtSeconds;
+            markReached(to);
+        }
+
+        /**
+         * Flushes the application currently being read into the funnel counts
+         */
+        void finish() {
+            for (int i = 0; i < STATUSES.length; i++) {
+                if ((reachedMask & (1 << i)) != 0) {
+                    reached[i]++;
+                }
+            }
+            reachedMask = 0;
+            currentApp = null;
+        }
+
+        StatusFunnelDTO toDTO() {
+            StatusFunnelDTO dto = new StatusFunnelDTO(applications);
+            for (ApplicationEntity.Status status : STATUSES) {
+                LongArray stageDurations = durations[status.ordinal()];
+                long[] sorted = stageDurations.sorted();
+                dto.addStage(new StatusFunnelDTO.StageStats(
+                        status.name(),
+                        reached[status.ordinal()],
+                        sorted.length,
+                        sorted.length == 0 ? 0 : stageDurations.sum / sorted.length,
+                        percentile(sorted, 50),
+                        percentile(sorted, 90)));
+            }
+            return dto;
+        }
+
+        private void markReached(ApplicationEntity.Status status) {
+            reachedMask |= 1 << status.ordinal();
+        }
+
+        // Nearest-rank percentile over an ascending array
+        private static long percentile(long[] sorted, int percent) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+
+    /**
+     * Growable list of primitive longs that also tracks their sum
+     */
+    static final class LongArray {
+        private long[] values = new long[8];
+        private int size;
+        private long sum;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sum += value;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.apptracker.service;
+
+import com.apptracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Removes accounts that never verified their email address.
+ *
+ * Users are deleted in chunks of set-based DELETEs, each committed on its own,
+ * with a pause in between so a large backlog (e.g. after a spam registration
+ * wave) never holds a long transaction or monopolizes pooled connections.
+ */
+@Service
+public class UnverifiedUserCleanupService {
+
+    private final UserRepository userRepository;
+    private final SearchIndexService searchIndexService;
+    private final OwnershipService ownershipService;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxAgeDays;
+
+    public UnverifiedUserCleanupService(UserRepository userRepository,
+            SearchIndexService searchIndexService,
+            OwnershipService ownershipService,
+            @Value("${app.cleanup.unverified-users.batch-size:500}") int batchSize,
+            @Value("${app.cleanup.unverified-users.pause-ms:200}") long pauseMillis,
+            @Value("${app.cleanup.unverified-users.max-age-days:7}") int maxAgeDays) {
+        this.userRepository = userRepository;
+        this.searchIndexService = searchIndexService;
+        this.ownershipService = ownershipService;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxAgeDays = maxAgeDays;
+    }
+
+    /**
+     * @return the number of users removed
+     */
+    public int removeStaleUnverifiedUsers() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(maxAgeDays);
+        int total = 0;
+        while (true) {
+            List<UUID> ids = userRepository.findUnverifiedIdsBefore(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += userRepository.deleteUnverifiedByIds(ids);
+            // Each delete committed on its own, so the caches can drop the users right away
+            for (UUID id : ids) {
+                searchIndexService.invalidate(id);
+                ownershipService.invalidateUser(id);
+            }
+            if (ids.size() < batchSize) {
+                return total;
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                // Shutting down: the rest is picked up by the next run
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
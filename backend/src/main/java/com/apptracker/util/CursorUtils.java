@@ -0,0 +1,134 @@
+package com.apptracker.util;
+
+import com.apptracker.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Utility class for encoding and decoding opaque keyset pagination cursors.
+ * A cursor captures the (createdAt, id) of the last row a client has seen, or
+ * for manually ordered board columns its (boardRank, id).
+ */
+public class CursorUtils {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes the sort key of the last returned row into an opaque token
+     *
+     * @param createdAt Creation timestamp of the row
+     * @param id        Id of the row, used as a tie-breaker
+     * @return URL-safe cursor token
+     */
+    public static String encode(OffsetDateTime createdAt, UUID id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token produced by {@link #encode(OffsetDateTime, UUID)}
+     *
+     * @param token The cursor token sent by the client
+     * @return The decoded cursor position
+     * @throws BadRequestException if the token is malformed
+     */
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            OffsetDateTime createdAt = OffsetDateTime.parse(raw.substring(0, separatorIndex));
+            UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+            return new Cursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes the board position of the last returned card into an opaque token
+     *
+     * @param boardRank Fractional-index rank of the card within its column
+     * @param id        Id of the card, used as a tie-breaker
+     * @return URL-safe cursor token
+     */
+    public static String encodeRank(String boardRank, UUID id) {
+        String raw = boardRank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token produced by {@link #encodeRank(String, UUID)}
+     *
+     * @param token The cursor token sent by the client
+     * @return The decoded board position
+     * @throws BadRequestException if the token is malformed
+     */
+    public static RankCursor decodeRank(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+            return new RankCursor(raw.substring(0, separatorIndex), id);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Decoded cursor position
+     */
+    public static class Cursor {
+        private final OffsetDateTime createdAt;
+        private final UUID id;
+
+        public Cursor(OffsetDateTime createdAt, UUID id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public OffsetDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+
+    /**
+     * Decoded board column position
+     */
+    public static class RankCursor {
+        private final String boardRank;
+        private final UUID id;
+
+        public RankCursor(String boardRank, UUID id) {
+            this.boardRank = boardRank;
+            this.id = id;
+        }
+
+        public String getBoardRank() {
+            return boardRank;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+}
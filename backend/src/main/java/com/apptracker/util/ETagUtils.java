@@ -0,0 +1,36 @@
+package com.apptracker.util;
+
+/**
+ * Utility class for evaluating If-None-Match request headers
+ */
+public class ETagUtils {
+
+    private ETagUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match (RFC 9110 13.1.2)
+     *
+     * @param ifNoneMatch The raw If-None-Match header, may be null
+     * @param etag        The current entity tag, including quotes
+     * @return true if any listed tag (or "*") matches the current one
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String current = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
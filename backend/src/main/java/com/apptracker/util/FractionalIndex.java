@@ -0,0 +1,129 @@
+package com.apptracker.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographically ordered position keys for manually ordered lists.
+ *
+ * A key is a base-36 fraction (digits 0-9a-z after an implied "0.") and keys
+ * compare as plain strings, byte by byte. A key that sorts between any two
+ * others can always be generated, so moving an item only rewrites that item's
+ * key. Keys never end in '0', which keeps room in front of every key.
+ */
+public class FractionalIndex {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private FractionalIndex() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Generates a key strictly between two keys
+     *
+     * @param before Key to sort after, or null/empty for the start of the list
+     * @param after  Key to sort before, or null for the end of the list
+     * @return The new key
+     * @throws IllegalArgumentException if a key is malformed or before is not less than after
+     */
+    public static String between(String before, String after) {
+        String a = before == null ? "" : before;
+        validate(a);
+        if (after != null) {
+            validate(after);
+            if (after.isEmpty() || a.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("Key '" + a + "' does not sort before '" + after + "'");
+            }
+        }
+        return midpoint(a, after);
+    }
+
+    /**
+     * Generates {@code count} ascending keys strictly between two keys, keeping
+     * them as short as possible by bisecting the interval
+     */
+    public static List<String> between(String before, String after, int count) {
+        List<String> keys = new ArrayList<>(count);
+        fill(before, after, count, keys);
+        return keys;
+    }
+
+    /**
+     * Fresh, equally spaced keys of the shortest common width for a list of
+     * {@code count} items; used to rebalance a list whose keys have grown long
+     */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long slots = BASE;
+        while (slots <= count) {
+            slots *= BASE;
+            width++;
+        }
+        long step = slots / (count + 1L);
+
+        List<String> keys = new ArrayList<>(count);
+        char[] digits = new char[width];
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            for (int d = width - 1; d >= 0; d--) {
+                digits[d] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (digits[length - 1] == '0') {
+                length--;
+            }
+            keys.add(new String(digits, 0, length));
+        }
+        return keys;
+    }
+
+    private static void fill(String before, String after, int count, List<String> keys) {
+        if (count <= 0) {
+            return;
+        }
+        String mid = between(before, after);
+        int left = count / 2;
+        fill(before, mid, left, keys);
+        keys.add(mid);
+        fill(mid, after, count - left - 1, keys);
+    }
+
+    // a < b, a may be empty, b == null means the end of the list
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Copy the common prefix, treating a as padded with '0'
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : '0') == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.substring(Math.min(n, a.length())), b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            // b's first digit alone sorts between a and b
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid key: " + key);
+            }
+        }
+        if (key.endsWith("0")) {
+            throw new IllegalArgumentException("Key must not end in 0: " + key);
+        }
+    }
+}
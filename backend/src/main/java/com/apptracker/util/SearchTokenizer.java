@@ -0,0 +1,34 @@
+package com.apptracker.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for splitting free text into lowercase search terms.
+ * Shared by the database search path and the in-memory search index so both
+ * agree on what a "word" is.
+ */
+public class SearchTokenizer {
+
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Splits text on anything that is not a letter or digit
+     *
+     * @param text The text to tokenize, may be null
+     * @return Lowercase terms in order of appearance, never null
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD_PATTERN.split(text.toLowerCase()))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
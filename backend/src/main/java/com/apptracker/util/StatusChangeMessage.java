@@ -0,0 +1,46 @@
+package com.apptracker.util;
+
+import com.apptracker.model.ApplicationEntity;
+
+/**
+ * Utility class for the message of STATUS_CHANGED activity rows. The activity
+ * table stores transitions only as this text, so writers and the analytics
+ * and export readers share one format.
+ */
+public class StatusChangeMessage {
+
+    private static final String PREFIX = "Status changed from ";
+    private static final String SEPARATOR = " to ";
+
+    private StatusChangeMessage() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static String format(ApplicationEntity.Status from, ApplicationEntity.Status to) {
+        return PREFIX + from + SEPARATOR + to;
+    }
+
+    /**
+     * Parses a message produced by {@link #format}
+     *
+     * @param message The activity message, may be null
+     * @return {from, to}, or null if the message is not a recognizable transition
+     */
+    public static ApplicationEntity.Status[] parse(String message) {
+        if (message == null || !message.startsWith(PREFIX)) {
+            return null;
+        }
+        int separator = message.indexOf(SEPARATOR, PREFIX.length());
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return new ApplicationEntity.Status[] {
+                    ApplicationEntity.Status.valueOf(message.substring(PREFIX.length(), separator)),
+                    ApplicationEntity.Status.valueOf(message.substring(separator + SEPARATOR.length()))
+            };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.apptracker.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Counts timestamps into consecutive calendar buckets (days, ISO weeks starting
+ * on Monday, or months) backed by a single long[]. Bucket lookup is
+ * arithmetic on the epoch day, so filling the histogram is one pass over the
+ * input regardless of how many buckets the range spans.
+ *
+ * Bucket boundaries are midnight in the offset of the range start; timestamps
+ * outside the range are ignored.
+ */
+public class TimeHistogram {
+
+    public enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    private final Granularity granularity;
+    private final OffsetDateTime start;
+    private final ZoneOffset offset;
+    private final long startEpochDay;
+    private final long startMonth;
+    private final long[] counts;
+
+    private TimeHistogram(Granularity granularity, OffsetDateTime start, int size) {
+        this.granularity = granularity;
+        this.start = start;
+        this.offset = start.getOffset();
+        this.startEpochDay = start.toLocalDate().toEpochDay();
+        this.startMonth = monthIndex(start.toLocalDate());
+        this.counts = new long[size];
+    }
+
+    /**
+     * Creates a histogram whose buckets cover [from, to). The first bucket starts
+     * at the beginning of the day, week or month containing {@code from}.
+     *
+     * @throws IllegalArgumentException if the range is empty or needs more than
+     *                                  {@code maxBuckets} buckets
+     */
+    public static TimeHistogram covering(Granularity granularity, OffsetDateTime from, OffsetDateTime to,
+            int maxBuckets) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Histogram range must end after it starts");
+        }
+        OffsetDateTime alignedStart = alignToBucket(granularity, from);
+        TimeHistogram probe = new TimeHistogram(granularity, alignedStart, 0);
+        long size = probe.indexOf(to.minusNanos(1)) + 1;
+        if (size > maxBuckets) {
+            throw new IllegalArgumentException("Histogram range spans more than " + maxBuckets + " buckets");
+        }
+        return new TimeHistogram(granularity, alignedStart, (int) size);
+    }
+
+    /**
+     * Creates a histogram of exactly {@code count} buckets whose last bucket is
+     * the one containing the instant just before {@code end}
+     */
+    public static TimeHistogram lastBuckets(Granularity granularity, OffsetDateTime end, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Histogram needs at least one bucket");
+        }
+        OffsetDateTime lastStart = alignToBucket(granularity, end.minusNanos(1));
+        OffsetDateTime start = switch (granularity) {
+            case DAY -> lastStart.minusDays(count - 1);
+            case WEEK -> lastStart.minusWeeks(count - 1);
+            case MONTH -> lastStart.minusMonths(count - 1);
+        };
+        return new TimeHistogram(granularity, start, count);
+    }
+
+    public static OffsetDateTime alignToBucket(Granularity granularity, OffsetDateTime time) {
+        OffsetDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    public void add(OffsetDateTime time) {
+        add(time, 1);
+    }
+
+    public void add(OffsetDateTime time, long count) {
+        long index = indexOf(time);
+        if (index >= 0 && index < counts.length) {
+            counts[(int) index] += count;
+        }
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Start of the first bucket
+     */
+    public OffsetDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Exclusive end of the last bucket
+     */
+    public OffsetDateTime getEnd() {
+        return bucketStart(counts.length);
+    }
+
+    public int size() {
+        return counts.length;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    public OffsetDateTime bucketStart(int bucket) {
+        return switch (granularity) {
+            case DAY -> start.plusDays(bucket);
+            case WEEK -> start.plusWeeks(bucket);
+            case MONTH -> start.plusMonths(bucket);
+        };
+    }
+
+    private long indexOf(OffsetDateTime time) {
+        LocalDate date = time.withOffsetSameInstant(offset).toLocalDate();
+        return switch (granularity) {
+            case DAY -> date.toEpochDay() - startEpochDay;
+            case WEEK -> Math.floorDiv(date.toEpochDay() - startEpochDay, 7);
+            case MONTH -> monthIndex(date) - startMonth;
+        };
+    }
+
+    private static long monthIndex(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,6 @@
+-- Backs the chunked auto-archive job, which repeatedly picks REJECTED,
+-- unarchived applications last updated before a cutoff. Partial, so only the
+-- rows that are still candidates are indexed.
+CREATE INDEX idx_applications_auto_archive
+  ON applications(updated_at)
+  WHERE status = 'REJECTED' AND archived = false;
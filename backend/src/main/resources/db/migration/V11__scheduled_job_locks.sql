@@ -0,0 +1,9 @@
+-- Lease locks for scheduled jobs, so each run happens on exactly one replica.
+-- A node owns a job while lock_until is in the future; an expired lease can be
+-- taken over by any node, so a crashed run does not block the job forever.
+CREATE TABLE scheduled_job_locks (
+  name text PRIMARY KEY,
+  locked_by text NOT NULL,
+  locked_at timestamptz NOT NULL,
+  lock_until timestamptz NOT NULL
+);
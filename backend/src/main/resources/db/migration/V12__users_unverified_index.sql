@@ -0,0 +1,3 @@
+-- Backs the chunked removal of stale unverified accounts, which repeatedly
+-- picks the oldest users with email_verified = false created before a cutoff.
+CREATE INDEX idx_users_email_verified_created_at ON users(email_verified, created_at);
@@ -0,0 +1,5 @@
+-- Composite index backing cursor (keyset) pagination on the applications list.
+-- Matches the WHERE user_id = ? AND archived = false ORDER BY created_at DESC, id DESC
+-- access path so deep pages seek directly instead of scanning an OFFSET.
+CREATE INDEX idx_applications_user_archived_created_id
+  ON applications(user_id, archived, created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- Full-text search over company, role and location.
+-- search_vector is maintained by Postgres as a stored generated column, so no
+-- application code has to keep it in sync. Company matches rank above role,
+-- and role above location. The 'simple' configuration avoids stemming company names.
+ALTER TABLE applications
+  ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(company, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(role, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(location, '')), 'C')
+  ) STORED;
+
+CREATE INDEX idx_applications_search_vector ON applications USING GIN (search_vector);
@@ -0,0 +1,4 @@
+-- Per-user change counter backing ETag / conditional GET on the application endpoints.
+-- Bumped in the same transaction as any write to the user's applications or their
+-- child rows, so every backend replica sees the same version.
+ALTER TABLE users ADD COLUMN change_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Per-user application counts by status, maintained with delta updates in the same
+-- transaction as the application write so the analytics endpoint reads a handful of
+-- rows instead of aggregating the applications table. A nightly job rebuilds any
+-- user whose counters have drifted from the source rows.
+CREATE TABLE user_application_stats (
+  user_id uuid NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  status VARCHAR(50) NOT NULL,
+  app_count bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (user_id, status)
+);
+
+INSERT INTO user_application_stats (user_id, status, app_count)
+SELECT user_id, status, COUNT(*)
+FROM applications
+GROUP BY user_id, status;
@@ -0,0 +1,6 @@
+-- Backs the funnel / time-in-stage stream, which reads each application's
+-- STATUS_CHANGED activity in (application_id, created_at) order. Partial so the
+-- far more numerous note/contact/reminder activity rows are not indexed twice.
+CREATE INDEX idx_activity_status_changed_app_created
+  ON activity(application_id, created_at)
+  WHERE type = 'STATUS_CHANGED';
@@ -0,0 +1,13 @@
+-- Anonymized, cross-user response rates per company, rebuilt nightly by a batch job.
+-- Holds no user ids; a company only appears once enough distinct users and
+-- applications back it. Request threads read this table, never applications.
+CREATE TABLE company_response_stats (
+  company_key text PRIMARY KEY,
+  company text NOT NULL,
+  applications bigint NOT NULL,
+  users bigint NOT NULL,
+  responses bigint NOT NULL,
+  interviews bigint NOT NULL,
+  offers bigint NOT NULL,
+  computed_at timestamptz NOT NULL
+);
@@ -0,0 +1,6 @@
+-- Backs the kanban board: the top-N-per-status window query and each column's
+-- "load more" keyset page read rows of one user and status in created_at DESC, id DESC
+-- order straight from this index instead of sorting.
+CREATE INDEX idx_applications_board
+  ON applications(user_id, status, created_at DESC, id DESC)
+  WHERE archived = false;
@@ -0,0 +1,25 @@
+-- Manual card order within a board column as a fractional index: a base-36 key
+-- compared byte-wise (COLLATE "C"), so a card can be moved between two others by
+-- writing one key that sorts between theirs, without renumbering the column.
+ALTER TABLE applications ADD COLUMN board_rank text COLLATE "C";
+
+-- Existing columns keep their newest-first order. Keys never end in '0', so there
+-- is always room for a key in front of the first card.
+UPDATE applications a
+SET board_rank = r.board_rank
+FROM (
+  SELECT id,
+         LPAD(ROW_NUMBER() OVER (PARTITION BY user_id, status ORDER BY created_at DESC, id DESC)::text, 8, '0')
+           || '1' AS board_rank
+  FROM applications
+) r
+WHERE a.id = r.id;
+
+ALTER TABLE applications ALTER COLUMN board_rank SET NOT NULL;
+
+-- Columns are now read in (board_rank, id) order, which replaces the created_at board index
+DROP INDEX idx_applications_board;
+
+CREATE INDEX idx_applications_board_rank
+  ON applications(user_id, status, board_rank, id)
+  WHERE archived = false;
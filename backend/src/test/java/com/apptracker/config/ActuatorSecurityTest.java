@@ -0,0 +1,74 @@
+package com.apptracker.config;
+
+import com.apptracker.security.JwtUtil;
+import com.apptracker.service.ScheduledTaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.security.admin-user-ids=" + ActuatorSecurityTest.ADMIN_ID,
+        // No SMTP server in tests
+        "management.health.mail.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    static final String ADMIN_ID = "00000000-0000-0000-0000-00000000a11d";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // Skips the open-jobs fetch on startup
+    @MockBean
+    private ScheduledTaskService scheduledTaskService;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsRequireTheAdminRole() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                .header(HttpHeaders.AUTHORIZATION, bearer(UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics")
+                .header(HttpHeaders.AUTHORIZATION, bearer(UUID.fromString(ADMIN_ID))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void scheduledJobStatusRequiresTheAdminRole() throws Exception {
+        // Anonymous requests are sent to the OAuth2 login like any other protected URL
+        mockMvc.perform(get("/actuator/scheduledjobs"))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/actuator/scheduledjobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer(UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/scheduledjobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer(UUID.fromString(ADMIN_ID))))
+                .andExpect(status().isOk());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + jwtUtil.generateToken(userId);
+    }
+}
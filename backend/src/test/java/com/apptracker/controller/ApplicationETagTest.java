@@ -0,0 +1,125 @@
+package com.apptracker.controller;
+
+import com.apptracker.security.JwtUtil;
+import com.apptracker.service.ScheduledTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.health.mail.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Skips the open-jobs fetch on startup
+    @MockBean
+    private ScheduledTaskService scheduledTaskService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID appId = UUID.randomUUID();
+    private final UUID noteId = UUID.randomUUID();
+
+    @BeforeEach
+    void insertApplicationWithNote() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email, created_at, email_notifications, " +
+                "auto_archive_old_apps, show_archived_apps, email_verified) " +
+                "VALUES (?, 'Test', ?, CURRENT_TIMESTAMP, false, false, false, true)", userId, userId + "@example.com");
+        jdbcTemplate.update("INSERT INTO applications (id, user_id, company, role, status, priority, archived, " +
+                "board_rank, created_at, updated_at) VALUES (?, ?, 'Acme', 'Engineer', 'APPLIED', 'MEDIUM', false, " +
+                "'i', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", appId, userId);
+        jdbcTemplate.update("INSERT INTO notes (id, application_id, content, created_at) " +
+                "VALUES (?, ?, 'Call back on Monday', CURRENT_TIMESTAMP)", noteId, appId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM activity WHERE application_id = ?", appId);
+        jdbcTemplate.update("DELETE FROM notes WHERE application_id = ?", appId);
+        jdbcTemplate.update("DELETE FROM applications WHERE id = ?", appId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void answersAMatchingIfNoneMatchWithNotModified() throws Exception {
+        String etag = currentETag();
+
+        mockMvc.perform(get("/api/apps/{id}", appId)
+                .header(HttpHeaders.AUTHORIZATION, bearer())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void deletingANoteChangesTheETag() throws Exception {
+        String before = currentETag();
+
+        mockMvc.perform(delete("/api/apps/{appId}/notes/{noteId}", appId, noteId)
+                .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isNoContent());
+
+        String after = mockMvc.perform(get("/api/apps/{id}/full", appId)
+                .header(HttpHeaders.AUTHORIZATION, bearer())
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotNull().isNotEqualTo(before);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notes WHERE id = ?", Long.class, noteId))
+                .isZero();
+    }
+
+    @Test
+    void failedDeleteLeavesTheETagAlone() throws Exception {
+        String before = currentETag();
+
+        // Someone else's user id: the ownership check fails and nothing is bumped
+        mockMvc.perform(delete("/api/apps/{appId}/notes/{noteId}", appId, noteId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(UUID.randomUUID())))
+                .andExpect(status().is4xxClientError());
+
+        mockMvc.perform(get("/api/apps/{id}", appId)
+                .header(HttpHeaders.AUTHORIZATION, bearer())
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isNotModified());
+    }
+
+    private String currentETag() throws Exception {
+        String etag = mockMvc.perform(get("/api/apps/{id}", appId)
+                .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken(userId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.apptracker.repository;
+
+import com.apptracker.model.ApplicationEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ApplicationRepositoryTest {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final OffsetDateTime START = OffsetDateTime.of(2026, 3, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private final UUID caller = UUID.randomUUID();
+    private final UUID otherUser = UUID.randomUUID();
+
+    @Test
+    void countAppliedByBucketOnlyCountsTheCallersApplications() {
+        save(caller, START.plusHours(3));
+        save(caller, START.plusHours(20));
+        save(caller, START.plusDays(2).plusHours(1));
+        save(otherUser, START.plusHours(5));
+        save(otherUser, START.plusDays(2));
+        // Outside [start, end)
+        save(caller, START.minusSeconds(1));
+        save(caller, START.plusDays(7));
+
+        Map<Long, Long> buckets = buckets(applicationRepository.countAppliedByBucket(caller, START,
+                START.plusDays(7), START.toEpochSecond(), SECONDS_PER_DAY));
+
+        assertThat(buckets).containsExactlyInAnyOrderEntriesOf(Map.of(0L, 2L, 2L, 1L));
+    }
+
+    @Test
+    void countAppliedByBucketIsEmptyForAUserWithoutApplications() {
+        save(otherUser, START.plusHours(5));
+
+        assertThat(applicationRepository.countAppliedByBucket(UUID.randomUUID(), START,
+                START.plusDays(7), START.toEpochSecond(), SECONDS_PER_DAY)).isEmpty();
+    }
+
+    @Test
+    void findOwnedStatusesOnlyReturnsTheCallersRows() {
+        UUID own = save(caller, START);
+        UUID foreign = save(otherUser, START);
+
+        List<Object[]> rows = applicationRepository.findOwnedStatuses(caller, List.of(own, foreign));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsExactly(own, ApplicationEntity.Status.APPLIED, false);
+    }
+
+    @Test
+    void findByIdForUpdateLoadsTheRow() {
+        UUID id = save(caller, START);
+
+        assertThat(applicationRepository.findByIdForUpdate(id)).get()
+                .extracting(ApplicationEntity::getUserId).isEqualTo(caller);
+    }
+
+    private Map<Long, Long> buckets(List<Object[]> rows) {
+        Map<Long, Long> buckets = new HashMap<>();
+        for (Object[] row : rows) {
+            buckets.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return buckets;
+    }
+
+    private UUID save(UUID userId, OffsetDateTime dateApplied) {
+        ApplicationEntity app = new ApplicationEntity();
+        app.setUserId(userId);
+        app.setCompany("Acme");
+        app.setRole("Engineer");
+        app.setStatus(ApplicationEntity.Status.APPLIED);
+        app.setDateApplied(dateApplied);
+        app.setBoardRank("i");
+        return applicationRepository.saveAndFlush(app).getId();
+    }
+}
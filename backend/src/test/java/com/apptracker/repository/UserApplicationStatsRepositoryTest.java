@@ -0,0 +1,112 @@
+package com.apptracker.repository;
+
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserApplicationStatsRepository.class)
+class UserApplicationStatsRepositoryTest {
+
+    @Autowired
+    private UserApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void applyDeltasCreatesMissingRowsAndAddsToExistingOnes() {
+        UUID userId = newUser();
+
+        statsRepository.applyDeltas(userId, deltas(ApplicationEntity.Status.SAVED, 2));
+        statsRepository.applyDeltas(userId, Map.of(
+                ApplicationEntity.Status.SAVED, -1L,
+                ApplicationEntity.Status.APPLIED, 1L));
+
+        assertThat(statsRepository.findCounts(userId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ApplicationEntity.Status.SAVED, 1L,
+                ApplicationEntity.Status.APPLIED, 1L));
+    }
+
+    @Test
+    void findCountsOmitsZeroCountersAndOtherUsers() {
+        UUID userId = newUser();
+        UUID otherUser = newUser();
+        statsRepository.applyDeltas(userId, Map.of(
+                ApplicationEntity.Status.SAVED, 1L,
+                ApplicationEntity.Status.OFFER, 1L));
+        statsRepository.applyDeltas(userId, deltas(ApplicationEntity.Status.OFFER, -1));
+        statsRepository.applyDeltas(otherUser, deltas(ApplicationEntity.Status.REJECTED, 3));
+
+        assertThat(statsRepository.findCounts(userId))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(ApplicationEntity.Status.SAVED, 1L));
+    }
+
+    @Test
+    void findsAndRebuildsDriftedUsers() {
+        UUID inStep = newUser();
+        UUID overCounted = newUser();
+        UUID missingCounter = newUser();
+
+        saveApplication(inStep, ApplicationEntity.Status.APPLIED);
+        statsRepository.applyDeltas(inStep, deltas(ApplicationEntity.Status.APPLIED, 1));
+
+        // Counter with no application behind it
+        saveApplication(overCounted, ApplicationEntity.Status.SAVED);
+        statsRepository.applyDeltas(overCounted, Map.of(
+                ApplicationEntity.Status.SAVED, 1L,
+                ApplicationEntity.Status.OFFER, 1L));
+
+        // Applications with no counter row at all
+        saveApplication(missingCounter, ApplicationEntity.Status.INTERVIEW);
+        saveApplication(missingCounter, ApplicationEntity.Status.INTERVIEW);
+
+        assertThat(statsRepository.findDriftedUserIds()).containsExactlyInAnyOrder(overCounted, missingCounter);
+
+        statsRepository.rebuild(overCounted);
+        statsRepository.rebuild(missingCounter);
+
+        assertThat(statsRepository.findDriftedUserIds()).isEmpty();
+        assertThat(statsRepository.findCounts(overCounted))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(ApplicationEntity.Status.SAVED, 1L));
+        assertThat(statsRepository.findCounts(missingCounter))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(ApplicationEntity.Status.INTERVIEW, 2L));
+    }
+
+    private Map<ApplicationEntity.Status, Long> deltas(ApplicationEntity.Status status, long delta) {
+        Map<ApplicationEntity.Status, Long> deltas = new EnumMap<>(ApplicationEntity.Status.class);
+        deltas.put(status, delta);
+        return deltas;
+    }
+
+    private UUID newUser() {
+        User user = new User();
+        user.setName("Test");
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        return userRepository.saveAndFlush(user).getId();
+    }
+
+    private void saveApplication(UUID userId, ApplicationEntity.Status status) {
+        ApplicationEntity app = new ApplicationEntity();
+        app.setUserId(userId);
+        app.setCompany("Acme");
+        app.setRole("Engineer");
+        app.setStatus(status);
+        app.setBoardRank("i");
+        applicationRepository.saveAndFlush(app);
+    }
+}
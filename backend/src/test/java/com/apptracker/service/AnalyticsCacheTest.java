@@ -0,0 +1,101 @@
+package com.apptracker.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnalyticsCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ChangeVersionService changeVersionService = mock(ChangeVersionService.class);
+
+    @Test
+    void tagsEvictionsWithTheirCause() {
+        AnalyticsCache cache = new AnalyticsCache(changeVersionService, registry, 60, 1);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        cache.get(first, Map::of);
+        cache.get(second, Map::of);
+        cache.invalidate(second);
+
+        assertThat(evictions("size")).isEqualTo(1);
+        assertThat(evictions("invalidated")).isEqualTo(1);
+        assertThat(evictions("expired")).isZero();
+    }
+
+    @Test
+    void countsExpiredEntriesSeparately() {
+        AnalyticsCache cache = new AnalyticsCache(changeVersionService, registry, 0, 10);
+        UUID userId = UUID.randomUUID();
+
+        cache.get(userId, Map::of);
+        cache.get(userId, Map::of);
+
+        assertThat(evictions("expired")).isEqualTo(1);
+        assertThat(evictions("invalidated")).isZero();
+    }
+
+    @Test
+    void servesEntriesOnlyWhileTheirVersionIsCurrent() {
+        AnalyticsCache cache = new AnalyticsCache(changeVersionService, registry, 60, 10);
+        UUID userId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        when(changeVersionService.currentVersion(userId)).thenReturn(1L);
+
+        cache.get(userId, () -> Map.of("loads", loads.incrementAndGet()));
+        assertThat(cache.get(userId, () -> Map.of("loads", loads.incrementAndGet())))
+                .containsEntry("loads", 1);
+
+        // A write committed elsewhere: no local invalidate, only the version moved
+        when(changeVersionService.currentVersion(userId)).thenReturn(2L);
+        assertThat(cache.get(userId, () -> Map.of("loads", loads.incrementAndGet())))
+                .containsEntry("loads", 2);
+        assertThat(evictions("invalidated")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotServeResultsComputedBeforeAWriteCommitted() {
+        AnalyticsCache cache = new AnalyticsCache(changeVersionService, registry, 60, 10);
+        UUID userId = UUID.randomUUID();
+        when(changeVersionService.currentVersion(userId)).thenReturn(1L);
+
+        // The reader read version 1, then a write committed and evicted before the reader stored its result
+        cache.get(userId, () -> {
+            cache.invalidate(userId);
+            when(changeVersionService.currentVersion(userId)).thenReturn(2L);
+            return Map.of("stale", true);
+        });
+
+        assertThat(cache.get(userId, () -> Map.of("stale", false))).containsEntry("stale", false);
+    }
+
+    @Test
+    void keepsTheNewerEntryWhenASlowerReaderFinishesLast() {
+        AnalyticsCache cache = new AnalyticsCache(changeVersionService, registry, 60, 10);
+        UUID userId = UUID.randomUUID();
+        when(changeVersionService.currentVersion(any())).thenReturn(1L);
+
+        cache.get(userId, () -> {
+            // A faster reader at version 2 caches while this one is still computing version 1
+            when(changeVersionService.currentVersion(any())).thenReturn(2L);
+            cache.get(userId, () -> Map.of("version", 2));
+            return Map.of("version", 1);
+        });
+
+        assertThat(cache.get(userId, () -> Map.of("version", 3))).containsEntry("version", 2);
+    }
+
+    private double evictions(String cause) {
+        return registry.get("analytics.cache.evictions").tag("cause", cause).counter().count();
+    }
+}
@@ -0,0 +1,170 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.dto.BoardColumnDTO;
+import com.apptracker.dto.CursorPage;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the board window query and the (boardRank, id) column cursor against the database
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ApplicationService.class)
+class ApplicationBoardTest {
+
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO applications (id, user_id, company, role, status, archived, board_rank, " +
+            "created_at, updated_at) VALUES (?, ?, 'Acme', 'Engineer', ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ActivityRepository activityRepository;
+    @MockBean
+    private SearchIndexService searchIndexService;
+    @MockBean
+    private ApplicationCountCache countCache;
+    @MockBean
+    private OwnershipService ownershipService;
+    @MockBean
+    private ChangeVersionService changeVersionService;
+    @MockBean
+    private ChangeFeedService changeFeedService;
+    @MockBean
+    private ApplicationStatsService statsService;
+    @MockBean
+    private AnalyticsCache analyticsCache;
+    @MockBean
+    private BoardRankService boardRankService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void limitsEachColumnAndReportsItsTotal() {
+        // Inserted out of order: the board sorts by rank, then id
+        insert(3, ApplicationEntity.Status.APPLIED, "c");
+        insert(1, ApplicationEntity.Status.APPLIED, "d");
+        insert(2, ApplicationEntity.Status.APPLIED, "b");
+        insert(4, ApplicationEntity.Status.APPLIED, "c");
+        insert(5, ApplicationEntity.Status.SAVED, "m");
+        insert(6, ApplicationEntity.Status.SAVED, "n");
+
+        List<BoardColumnDTO> board = applicationService.getBoard(userId, 2);
+
+        assertThat(board).extracting(BoardColumnDTO::getStatus).containsExactly(
+                "SAVED", "APPLIED", "OA", "INTERVIEW", "OFFER", "REJECTED");
+
+        BoardColumnDTO applied = column(board, ApplicationEntity.Status.APPLIED);
+        assertThat(applied.getCount()).isEqualTo(4);
+        assertThat(applied.getCards()).extracting(ApplicationDTO::getId).containsExactly(id(2), id(3));
+        assertThat(applied.getNextCursor()).isNotNull();
+
+        // A column that fits entirely has no cursor
+        BoardColumnDTO saved = column(board, ApplicationEntity.Status.SAVED);
+        assertThat(saved.getCount()).isEqualTo(2);
+        assertThat(saved.getCards()).extracting(ApplicationDTO::getId).containsExactly(id(5), id(6));
+        assertThat(saved.getNextCursor()).isNull();
+
+        BoardColumnDTO offer = column(board, ApplicationEntity.Status.OFFER);
+        assertThat(offer.getCount()).isZero();
+        assertThat(offer.getCards()).isEmpty();
+        assertThat(offer.getNextCursor()).isNull();
+    }
+
+    @Test
+    void leavesOutArchivedCardsAndOtherUsers() {
+        insert(1, ApplicationEntity.Status.INTERVIEW, "m");
+        insertFor(userId, 2, ApplicationEntity.Status.INTERVIEW, "a", true);
+        insertFor(UUID.randomUUID(), 3, ApplicationEntity.Status.INTERVIEW, "b", false);
+
+        BoardColumnDTO interview = column(applicationService.getBoard(userId, 10), ApplicationEntity.Status.INTERVIEW);
+
+        assertThat(interview.getCount()).isEqualTo(1);
+        assertThat(interview.getCards()).extracting(ApplicationDTO::getId).containsExactly(id(1));
+
+        CursorPage<ApplicationDTO> page = applicationService.getBoardColumn(userId, "interview", null, 10);
+        assertThat(page.getContent()).extracting(ApplicationDTO::getId).containsExactly(id(1));
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorContinuesAcrossEqualRanksWithoutGapsOrRepeats() {
+        // Five cards share rank "m", so the id breaks every tie including the page boundaries
+        insert(7, ApplicationEntity.Status.OA, "z");
+        insert(4, ApplicationEntity.Status.OA, "m");
+        insert(1, ApplicationEntity.Status.OA, "m");
+        insert(6, ApplicationEntity.Status.OA, "m");
+        insert(2, ApplicationEntity.Status.OA, "m");
+        insert(5, ApplicationEntity.Status.OA, "m");
+        insert(3, ApplicationEntity.Status.OA, "a");
+
+        BoardColumnDTO oa = column(applicationService.getBoard(userId, 2), ApplicationEntity.Status.OA);
+        List<UUID> seen = new ArrayList<>();
+        oa.getCards().forEach(card -> seen.add(card.getId()));
+
+        String cursor = oa.getNextCursor();
+        int pages = 0;
+        while (cursor != null) {
+            CursorPage<ApplicationDTO> page = applicationService.getBoardColumn(userId, "OA", cursor, 2);
+            page.getContent().forEach(card -> seen.add(card.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly(id(3), id(1), id(2), id(4), id(5), id(6), id(7));
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        insert(1, ApplicationEntity.Status.REJECTED, "m");
+        insert(2, ApplicationEntity.Status.REJECTED, "m");
+
+        CursorPage<ApplicationDTO> page = applicationService.getBoardColumn(userId, "REJECTED", null, 2);
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // Small sequential ids make the tie-break order obvious
+    private static UUID id(int n) {
+        return new UUID(0, n);
+    }
+
+    private void insert(int n, ApplicationEntity.Status status, String boardRank) {
+        insertFor(userId, n, status, boardRank, false);
+    }
+
+    private void insertFor(UUID owner, int n, ApplicationEntity.Status status, String boardRank, boolean archived) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_APPLICATION_SQL, id(n), owner, status.name(), archived, boardRank, now, now);
+    }
+
+    private static BoardColumnDTO column(List<BoardColumnDTO> board, ApplicationEntity.Status status) {
+        return board.stream()
+                .filter(column -> column.getStatus().equals(status.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,126 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.BulkOperationRequest;
+import com.apptracker.dto.BulkOperationResponse;
+import com.apptracker.model.Activity;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ApplicationService.class)
+class ApplicationBulkOperationTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @MockBean
+    private ActivityRepository activityRepository;
+    @MockBean
+    private SearchIndexService searchIndexService;
+    @MockBean
+    private ApplicationCountCache countCache;
+    @MockBean
+    private OwnershipService ownershipService;
+    @MockBean
+    private ChangeVersionService changeVersionService;
+    @MockBean
+    private ChangeFeedService changeFeedService;
+    @MockBean
+    private ApplicationStatsService statsService;
+    @MockBean
+    private AnalyticsCache analyticsCache;
+    @MockBean
+    private BoardRankService boardRankService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statusChangeSkipsApplicationsAlreadyInTheTargetStatus() {
+        UUID saved = save(ApplicationEntity.Status.SAVED, false);
+        UUID applied = save(ApplicationEntity.Status.APPLIED, false);
+        when(boardRankService.topOf(eq(userId), eq(ApplicationEntity.Status.APPLIED), anyInt()))
+                .thenReturn(List.of("h"));
+
+        BulkOperationResponse response = applicationService.applyBulkOperation(userId,
+                request("STATUS", "APPLIED", saved, applied));
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        ArgumentCaptor<List<Activity>> activities = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository).batchInsert(activities.capture());
+        assertThat(activities.getValue()).extracting(Activity::getApplicationId).containsExactly(saved);
+        verify(statsService).recordChanges(userId, List.of(ApplicationEntity.Status.SAVED),
+                ApplicationEntity.Status.APPLIED);
+        verify(changeFeedService).publish(eq(userId), eq(List.of(saved)), any(), anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveSkipsApplicationsAlreadyArchived() {
+        UUID active = save(ApplicationEntity.Status.SAVED, false);
+        UUID archived = save(ApplicationEntity.Status.SAVED, true);
+
+        BulkOperationResponse response = applicationService.applyBulkOperation(userId,
+                request("ARCHIVE", null, active, archived));
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        ArgumentCaptor<List<Activity>> activities = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository).batchInsert(activities.capture());
+        assertThat(activities.getValue()).extracting(Activity::getApplicationId).containsExactly(active);
+    }
+
+    @Test
+    void noOpRequestWritesNothing() {
+        UUID archived = save(ApplicationEntity.Status.SAVED, true);
+
+        BulkOperationResponse response = applicationService.applyBulkOperation(userId,
+                request("ARCHIVE", null, archived));
+
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        verify(activityRepository, never()).batchInsert(any());
+        verify(changeVersionService, never()).bump(any());
+    }
+
+    private UUID save(ApplicationEntity.Status status, boolean archived) {
+        ApplicationEntity app = new ApplicationEntity();
+        app.setUserId(userId);
+        app.setCompany("Acme");
+        app.setRole("Engineer");
+        app.setStatus(status);
+        app.setArchived(archived);
+        app.setBoardRank("i");
+        return applicationRepository.saveAndFlush(app).getId();
+    }
+
+    private BulkOperationRequest request(String action, String status, UUID... ids) {
+        BulkOperationRequest request = new BulkOperationRequest();
+        request.setAction(action);
+        request.setStatus(status);
+        request.setIds(List.of(ids));
+        return request;
+    }
+}
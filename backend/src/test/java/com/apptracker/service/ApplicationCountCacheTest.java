@@ -0,0 +1,64 @@
+package com.apptracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationCountCacheTest {
+
+    private final ChangeVersionService changeVersionService = mock(ChangeVersionService.class);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void servesCachedTotalsWhileTheVersionIsCurrent() {
+        ApplicationCountCache cache = new ApplicationCountCache(changeVersionService, 60, 10, 10);
+        when(changeVersionService.currentVersion(userId)).thenReturn(3L);
+        AtomicLong loads = new AtomicLong();
+
+        cache.getCount(userId, "APPLIED", null, null, null, () -> loads.incrementAndGet());
+        long count = cache.getCount(userId, "APPLIED", null, null, null, () -> loads.incrementAndGet());
+
+        assertThat(count).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void ignoresTotalsCachedUnderAnOlderVersion() {
+        ApplicationCountCache cache = new ApplicationCountCache(changeVersionService, 60, 10, 10);
+        // A reader that raced a write cached the pre-commit total under version 3
+        when(changeVersionService.currentVersion(userId)).thenReturn(3L);
+        cache.getCount(userId, null, null, null, null, () -> 5);
+
+        when(changeVersionService.currentVersion(userId)).thenReturn(4L);
+        assertThat(cache.getCount(userId, null, null, null, null, () -> 6)).isEqualTo(6);
+        assertThat(cache.getCount(userId, null, null, null, null, () -> 7)).isEqualTo(6);
+    }
+
+    @Test
+    void expiresTotalsAfterTheTtl() {
+        ApplicationCountCache cache = new ApplicationCountCache(changeVersionService, 0, 10, 10);
+        when(changeVersionService.currentVersion(userId)).thenReturn(1L);
+
+        cache.getCount(userId, null, null, null, null, () -> 1);
+        assertThat(cache.getCount(userId, null, null, null, null, () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedFilter() {
+        ApplicationCountCache cache = new ApplicationCountCache(changeVersionService, 60, 10, 2);
+        when(changeVersionService.currentVersion(userId)).thenReturn(1L);
+
+        cache.getCount(userId, "SAVED", null, null, null, () -> 1);
+        cache.getCount(userId, "APPLIED", null, null, null, () -> 2);
+        cache.getCount(userId, "SAVED", null, null, null, () -> -1);
+        cache.getCount(userId, "OFFER", null, null, null, () -> 3);
+
+        assertThat(cache.getCount(userId, "SAVED", null, null, null, () -> -1)).isEqualTo(1);
+        assertThat(cache.getCount(userId, "APPLIED", null, null, null, () -> 20)).isEqualTo(20);
+    }
+}
@@ -0,0 +1,259 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationChangeEvent;
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.dto.MoveCardRequest;
+import com.apptracker.exception.BadRequestException;
+import com.apptracker.exception.UnauthorizedException;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Moves commit through ApplicationService's own transaction so the after-commit rebalance
+// request fires; the test runs outside the rollback-only test transaction and cleans up.
+// A one-character rank limit makes any key that needs a second character queue a rebalance
+@DataJpaTest(properties = "app.board.rank.max-length=1")
+@ActiveProfiles("test")
+@Import({ApplicationService.class, BoardRankService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationMoveCardTest {
+
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO applications (id, user_id, company, role, status, priority, archived, board_rank, " +
+            "created_at, updated_at) VALUES (?, ?, 'Acme', 'Engineer', ?, 'MEDIUM', ?, ?, ?, ?)";
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private BoardRankService boardRankService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ActivityRepository activityRepository;
+    @MockBean
+    private SearchIndexService searchIndexService;
+    @MockBean
+    private ApplicationCountCache countCache;
+    @MockBean
+    private OwnershipService ownershipService;
+    @MockBean
+    private ChangeVersionService changeVersionService;
+    @MockBean
+    private ChangeFeedService changeFeedService;
+    @MockBean
+    private ApplicationStatsService statsService;
+    @MockBean
+    private AnalyticsCache analyticsCache;
+    @MockBean
+    private ScheduledJobMonitor jobMonitor;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM applications");
+    }
+
+    @Test
+    void movesACardBetweenTwoNeighboursInAnotherColumn() {
+        UUID first = insert(userId, ApplicationEntity.Status.APPLIED, "b");
+        UUID second = insert(userId, ApplicationEntity.Status.APPLIED, "f");
+        UUID third = insert(userId, ApplicationEntity.Status.APPLIED, "p");
+        UUID card = insert(userId, ApplicationEntity.Status.SAVED, "m");
+
+        ApplicationDTO moved = applicationService.moveCard(userId, card, move("APPLIED", first, second));
+
+        assertThat(moved.getStatus()).isEqualTo("APPLIED");
+        assertThat(rankOf(card)).isGreaterThan("b").isLessThan("f").hasSize(1);
+        assertThat(column(ApplicationEntity.Status.APPLIED)).containsExactly(first, card, second, third);
+        verify(statsService).recordChange(userId, ApplicationEntity.Status.SAVED, ApplicationEntity.Status.APPLIED);
+        verify(changeFeedService).publish(eq(userId), eq(card), eq(ApplicationChangeEvent.Type.STATUS_CHANGED),
+                anyLong());
+    }
+
+    @Test
+    void reordersWithinAColumn() {
+        UUID first = insert(userId, ApplicationEntity.Status.INTERVIEW, "b");
+        UUID second = insert(userId, ApplicationEntity.Status.INTERVIEW, "f");
+        UUID third = insert(userId, ApplicationEntity.Status.INTERVIEW, "p");
+
+        applicationService.moveCard(userId, third, move(null, first, second));
+
+        assertThat(column(ApplicationEntity.Status.INTERVIEW)).containsExactly(first, third, second);
+        verify(statsService, never()).recordChange(any(), any(), any());
+        verify(changeFeedService).publish(eq(userId), eq(third), eq(ApplicationChangeEvent.Type.UPDATED),
+                anyLong());
+    }
+
+    @Test
+    void rejectsANeighbourFromAnotherColumn() {
+        UUID first = insert(userId, ApplicationEntity.Status.APPLIED, "b");
+        UUID saved = insert(userId, ApplicationEntity.Status.SAVED, "f");
+        UUID card = insert(userId, ApplicationEntity.Status.APPLIED, "p");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, first, saved)))
+                .isInstanceOf(BadRequestException.class);
+        assertUnmoved(card, ApplicationEntity.Status.APPLIED, "p");
+    }
+
+    @Test
+    void rejectsAnArchivedNeighbour() {
+        UUID first = insert(userId, ApplicationEntity.Status.APPLIED, "b");
+        UUID archived = insertArchived(userId, ApplicationEntity.Status.APPLIED, "f");
+        UUID card = insert(userId, ApplicationEntity.Status.APPLIED, "p");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, first, archived)))
+                .isInstanceOf(BadRequestException.class);
+        assertUnmoved(card, ApplicationEntity.Status.APPLIED, "p");
+    }
+
+    @Test
+    void rejectsACardOwnedBySomeoneElse() {
+        UUID otherUser = UUID.randomUUID();
+        UUID first = insert(userId, ApplicationEntity.Status.APPLIED, "b");
+        UUID theirs = insert(otherUser, ApplicationEntity.Status.APPLIED, "p");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, theirs, move(null, first, null)))
+                .isInstanceOf(UnauthorizedException.class);
+        assertUnmoved(theirs, ApplicationEntity.Status.APPLIED, "p");
+    }
+
+    @Test
+    void rejectsANeighbourOwnedBySomeoneElse() {
+        UUID theirs = insert(UUID.randomUUID(), ApplicationEntity.Status.APPLIED, "b");
+        UUID card = insert(userId, ApplicationEntity.Status.APPLIED, "p");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, theirs, null)))
+                .isInstanceOf(BadRequestException.class);
+        assertUnmoved(card, ApplicationEntity.Status.APPLIED, "p");
+    }
+
+    @Test
+    void rejectsNeighboursThatAreNotAdjacent() {
+        UUID first = insert(userId, ApplicationEntity.Status.OFFER, "b");
+        insert(userId, ApplicationEntity.Status.OFFER, "f");
+        UUID third = insert(userId, ApplicationEntity.Status.OFFER, "p");
+        UUID card = insert(userId, ApplicationEntity.Status.OFFER, "w");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, first, third)))
+                .isInstanceOf(BadRequestException.class);
+        // Given the wrong way round they are not adjacent either
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, third, first)))
+                .isInstanceOf(BadRequestException.class);
+        assertUnmoved(card, ApplicationEntity.Status.OFFER, "w");
+    }
+
+    @Test
+    void rejectsPlacingACardNextToItself() {
+        UUID card = insert(userId, ApplicationEntity.Status.OFFER, "b");
+
+        assertThatThrownBy(() -> applicationService.moveCard(userId, card, move(null, card, null)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void longKeysQueueTheColumnForRebalance() {
+        when(jobMonitor.run(any(), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong());
+        UUID first = insert(userId, ApplicationEntity.Status.OA, "b");
+        UUID second = insert(userId, ApplicationEntity.Status.OA, "c");
+        UUID card = insert(userId, ApplicationEntity.Status.OA, "d");
+
+        // No single character fits between "b" and "c"
+        applicationService.moveCard(userId, card, move(null, first, second));
+        assertThat(rankOf(card)).hasSizeGreaterThan(1);
+        verify(changeVersionService).bump(userId);
+
+        boardRankService.rebalancePending();
+
+        assertThat(column(ApplicationEntity.Status.OA)).containsExactly(first, card, second);
+        assertThat(List.of(rankOf(first), rankOf(card), rankOf(second))).allSatisfy(rank ->
+                assertThat(rank).hasSize(1));
+        // The rewrite bumps the version again so clients drop cursors holding the old keys
+        verify(changeVersionService, times(2)).bump(userId);
+    }
+
+    @Test
+    void shortKeysDoNotQueueARebalance() {
+        // Other tests may have left columns queued in the shared service, so check this column's keys
+        when(jobMonitor.run(any(), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong());
+        UUID first = insert(userId, ApplicationEntity.Status.OA, "b");
+        UUID second = insert(userId, ApplicationEntity.Status.OA, "f");
+        UUID card = insert(userId, ApplicationEntity.Status.OA, "p");
+
+        applicationService.moveCard(userId, card, move(null, first, second));
+        String moved = rankOf(card);
+        boardRankService.rebalancePending();
+
+        assertThat(List.of(rankOf(first), rankOf(card), rankOf(second))).containsExactly("b", moved, "f");
+        verify(changeVersionService, times(1)).bump(userId);
+    }
+
+    private void assertUnmoved(UUID card, ApplicationEntity.Status status, String rank) {
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM applications WHERE id = ?", String.class, card))
+                .isEqualTo(status.name());
+        assertThat(rankOf(card)).isEqualTo(rank);
+        verify(changeFeedService, never()).publish(any(), any(UUID.class), any(), anyLong());
+    }
+
+    private static MoveCardRequest move(String status, UUID previousId, UUID nextId) {
+        MoveCardRequest request = new MoveCardRequest();
+        request.setStatus(status);
+        request.setPreviousId(previousId);
+        request.setNextId(nextId);
+        return request;
+    }
+
+    private UUID insert(UUID owner, ApplicationEntity.Status status, String boardRank) {
+        return insert(owner, status, boardRank, false);
+    }
+
+    private UUID insertArchived(UUID owner, ApplicationEntity.Status status, String boardRank) {
+        return insert(owner, status, boardRank, true);
+    }
+
+    private UUID insert(UUID owner, ApplicationEntity.Status status, String boardRank, boolean archived) {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_APPLICATION_SQL, id, owner, status.name(), archived, boardRank, now, now);
+        return id;
+    }
+
+    private String rankOf(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT board_rank FROM applications WHERE id = ?", String.class, id);
+    }
+
+    private List<UUID> column(ApplicationEntity.Status status) {
+        return jdbcTemplate.queryForList("SELECT id FROM applications WHERE user_id = ? AND status = ? " +
+                "AND archived = false ORDER BY board_rank, id", UUID.class, userId, status.name());
+    }
+}
@@ -0,0 +1,100 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the portable search path used when the database is not PostgreSQL
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ApplicationService.class)
+class ApplicationSearchTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @MockBean
+    private ActivityRepository activityRepository;
+    @MockBean
+    private SearchIndexService searchIndexService;
+    @MockBean
+    private ApplicationCountCache countCache;
+    @MockBean
+    private OwnershipService ownershipService;
+    @MockBean
+    private ChangeVersionService changeVersionService;
+    @MockBean
+    private ChangeFeedService changeFeedService;
+    @MockBean
+    private ApplicationStatsService statsService;
+    @MockBean
+    private AnalyticsCache analyticsCache;
+    @MockBean
+    private BoardRankService boardRankService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void matchesEachTermAgainstAnyColumn() {
+        save(userId, "Acme", "Backend Engineer", "Berlin", 1);
+        save(userId, "Acme", "Designer", "Berlin", 2);
+        save(userId, "Globex", "Backend Engineer", "Paris", 3);
+
+        List<ApplicationDTO> results = applicationService.searchApplications(userId, "acme backend", 10);
+
+        assertThat(results).extracting(ApplicationDTO::getRole).containsExactly("Backend Engineer");
+        assertThat(results).extracting(ApplicationDTO::getCompany).containsExactly("Acme");
+    }
+
+    @Test
+    void ranksAllMatchesBeforeApplyingTheLimit() {
+        // Older company match must outrank newer location-only matches
+        save(userId, "Stripe", "Engineer", "Remote", 100);
+        for (int i = 0; i < 5; i++) {
+            save(userId, "Other " + i, "Engineer", "Stripe HQ", i);
+        }
+
+        List<ApplicationDTO> results = applicationService.searchApplications(userId, "stripe", 2);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getCompany()).isEqualTo("Stripe");
+        assertThat(results.get(1).getCompany()).isEqualTo("Other 0");
+    }
+
+    @Test
+    void onlySearchesTheCallersApplications() {
+        save(userId, "Initech", "Engineer", null, 1);
+        save(UUID.randomUUID(), "Initech", "Engineer", null, 2);
+
+        assertThat(applicationService.searchApplications(userId, "initech", 10)).hasSize(1);
+    }
+
+    private void save(UUID owner, String company, String role, String location, int daysAgo) {
+        ApplicationEntity app = new ApplicationEntity();
+        app.setUserId(owner);
+        app.setCompany(company);
+        app.setRole(role);
+        app.setLocation(location);
+        app.setBoardRank("i");
+        app.setCreatedAt(OffsetDateTime.now().minusDays(daysAgo));
+        applicationRepository.saveAndFlush(app);
+    }
+}
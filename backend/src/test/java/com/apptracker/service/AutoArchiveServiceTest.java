@@ -0,0 +1,165 @@
+package com.apptracker.service;
+
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ActivityRepository;
+import com.apptracker.repository.ApplicationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Chunks commit through the service's own TransactionTemplate, so the test runs outside
+// the usual rollback-only test transaction and cleans up after itself
+@DataJpaTest(properties = "app.auto-archive.chunk-size=50")
+@ActiveProfiles("test")
+@Import(AutoArchiveService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AutoArchiveServiceTest {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, name, email, created_at, email_notifications, auto_archive_old_apps, " +
+            "show_archived_apps, email_verified) VALUES (?, 'Test', ?, CURRENT_TIMESTAMP, false, ?, false, true)";
+
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO applications (id, user_id, company, role, status, archived, board_rank, " +
+            "created_at, updated_at) VALUES (?, ?, 'Acme', 'Engineer', ?, false, 'a0', ?, ?)";
+
+    @Autowired
+    private AutoArchiveService autoArchiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private ApplicationCountCache countCache;
+
+    @MockBean
+    private AnalyticsCache analyticsCache;
+
+    @MockBean
+    private SearchIndexService searchIndexService;
+
+    @MockBean
+    private ChangeVersionService changeVersionService;
+
+    @MockBean
+    private ChangeFeedService changeFeedService;
+
+    private final OffsetDateTime old = OffsetDateTime.now().minusDays(60);
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM activity");
+        jdbcTemplate.update("DELETE FROM applications");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void archivesTheBacklogAcrossSeveralChunks() {
+        UUID first = newUser(true);
+        UUID second = newUser(true);
+        UUID optedOut = newUser(false);
+        insertApplications(first, ApplicationEntity.Status.REJECTED, old, 120);
+        insertApplications(second, ApplicationEntity.Status.REJECTED, old, 30);
+        // Not eligible: recently updated, not rejected, or the user did not opt in
+        insertApplications(first, ApplicationEntity.Status.REJECTED, OffsetDateTime.now(), 5);
+        insertApplications(first, ApplicationEntity.Status.APPLIED, old, 5);
+        insertApplications(optedOut, ApplicationEntity.Status.REJECTED, old, 10);
+
+        assertThat(autoArchiveService.archiveOldRejected()).isEqualTo(150);
+
+        assertThat(archivedCount(first)).isEqualTo(120);
+        assertThat(archivedCount(second)).isEqualTo(30);
+        assertThat(archivedCount(optedOut)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity", Long.class)).isEqualTo(150);
+        for (UUID userId : List.of(first, second)) {
+            verify(countCache, atLeastOnce()).invalidate(userId);
+            verify(analyticsCache, atLeastOnce()).invalidate(userId);
+            verify(changeFeedService, atLeastOnce())
+                    .publish(eq(userId), anyList(), any(), anyLong());
+        }
+        verify(analyticsCache, never()).invalidate(optedOut);
+
+        // Nothing left on the next run
+        assertThat(autoArchiveService.archiveOldRejected()).isZero();
+    }
+
+    // Run with -DautoArchive.scaleRows=N to check a large backlog. The in-memory database holds every
+    // row twice over (applications and activity), so a million rows needs a larger heap via -DargLine
+    @Test
+    @EnabledIfSystemProperty(named = "autoArchive.scaleRows", matches = "\\d+")
+    void archivesALargeBacklog() {
+        int rows = Integer.parseInt(System.getProperty("autoArchive.scaleRows"));
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(newUser(true));
+        }
+        for (int i = 0; i < users.size(); i++) {
+            insertApplications(users.get(i), ApplicationEntity.Status.REJECTED, old,
+                    rows / users.size() + (i < rows % users.size() ? 1 : 0));
+        }
+        AutoArchiveService service = new AutoArchiveService(applicationRepository, activityRepository,
+                countCache, analyticsCache, searchIndexService, changeVersionService, changeFeedService,
+                transactionManager, 1000, 30);
+
+        assertThat(service.archiveOldRejected()).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE archived = false", Long.class)).isZero();
+    }
+
+    private UUID newUser(boolean autoArchive) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_USER_SQL, id, id + "@example.com", autoArchive);
+        return id;
+    }
+
+    private void insertApplications(UUID userId, ApplicationEntity.Status status, OffsetDateTime updatedAt,
+            int count) {
+        Timestamp timestamp = Timestamp.from(updatedAt.toInstant());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{UUID.randomUUID(), userId, status.name(), timestamp, timestamp});
+            if (batch.size() == 10_000 || i == count - 1) {
+                jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private long archivedCount(UUID userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE user_id = ? AND archived = true", Long.class, userId);
+    }
+}
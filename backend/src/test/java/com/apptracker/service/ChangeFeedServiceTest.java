@@ -0,0 +1,89 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChangeFeedServiceTest {
+
+    private final ChangeVersionService changeVersionService = mock(ChangeVersionService.class);
+    private final ChangeFeedService changeFeedService = new ChangeFeedService(changeVersionService, 8, 1, 1, 2, 100);
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void shutdown() {
+        changeFeedService.shutdown();
+    }
+
+    @Test
+    void capsOpenStreamsPerUser() {
+        changeFeedService.subscribe(userId);
+        changeFeedService.subscribe(userId);
+        changeFeedService.subscribe(userId);
+
+        assertThat(changeFeedService.subscriberCount(userId)).isEqualTo(2);
+        assertThat(changeFeedService.subscriberCount(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    void heartbeatsDoNotQueueUpBehindAStalledSocket() {
+        SseEmitter emitter = changeFeedService.subscribe(userId);
+
+        // Holding the emitter's lock stalls every send to it
+        synchronized (emitter) {
+            for (int i = 0; i < 100; i++) {
+                changeFeedService.sendHeartbeats();
+            }
+            assertThat(changeFeedService.queuedSends()).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void closesStreamsTheSenderQueueCannotTake() throws InterruptedException {
+        ChangeFeedService feed = new ChangeFeedService(changeVersionService, 8, 1, 1, 2, 1);
+        try {
+            SseEmitter stalled = feed.subscribe(userId);
+            synchronized (stalled) {
+                // Pins the only sender thread on the stalled socket
+                feed.publish(userId, UUID.randomUUID(), ApplicationChangeEvent.Type.UPDATED, 1);
+                waitForEmptyQueue(feed);
+
+                UUID queued = UUID.randomUUID();
+                UUID rejected = UUID.randomUUID();
+                feed.subscribe(queued);
+                feed.subscribe(rejected);
+
+                assertThat(feed.subscriberCount(queued)).isEqualTo(1);
+                assertThat(feed.subscriberCount(rejected)).isZero();
+            }
+        } finally {
+            feed.shutdown();
+        }
+    }
+
+    @Test
+    void publishUsesTheVersionOfTheWrite() {
+        changeFeedService.subscribe(userId);
+
+        changeFeedService.publish(userId, UUID.randomUUID(), ApplicationChangeEvent.Type.UPDATED, 7);
+
+        // Only the hello event looks the version up
+        verify(changeVersionService, times(1)).currentVersion(userId);
+    }
+
+    private static void waitForEmptyQueue(ChangeFeedService feed) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (feed.queuedSends() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.queuedSends()).isZero();
+    }
+}
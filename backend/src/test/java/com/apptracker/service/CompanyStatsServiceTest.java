@@ -0,0 +1,128 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.CompanyResponseRateDTO;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.CompanyResponseStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two users per chunk, so five users span three chunk queries
+@DataJpaTest(properties = {
+        "app.company-stats.chunk-size=2",
+        "app.company-stats.min-applications=3",
+        "app.company-stats.min-users=2"
+})
+@ActiveProfiles("test")
+@Import({CompanyStatsService.class, CompanyResponseStatsRepository.class})
+class CompanyStatsServiceTest {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, name, email, created_at, email_notifications, auto_archive_old_apps, " +
+            "show_archived_apps, email_verified) VALUES (?, 'Test', ?, CURRENT_TIMESTAMP, false, false, false, true)";
+
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO applications (id, user_id, company, role, status, archived, board_rank, " +
+            "created_at, updated_at) VALUES (?, ?, ?, 'Engineer', ?, false, 'a0', CURRENT_TIMESTAMP, " +
+            "CURRENT_TIMESTAMP)";
+
+    @Autowired
+    private CompanyStatsService companyStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void insertUsers() {
+        for (int n = 1; n <= 5; n++) {
+            jdbcTemplate.update(INSERT_USER_SQL, user(n), user(n) + "@example.com");
+        }
+    }
+
+    @Test
+    void mergesTotalsFromEveryChunk() {
+        apply(1, "Acme", ApplicationEntity.Status.APPLIED);
+        apply(1, "Acme", ApplicationEntity.Status.INTERVIEW);
+        apply(2, " acme ", ApplicationEntity.Status.REJECTED);
+        apply(3, "ACME", ApplicationEntity.Status.OFFER);
+        apply(5, "Acme", ApplicationEntity.Status.OA);
+        // Never sent, so not counted
+        apply(5, "Acme", ApplicationEntity.Status.SAVED);
+
+        assertThat(companyStatsService.recompute()).isEqualTo(1);
+
+        CompanyResponseRateDTO acme = companyStatsService.getResponseRates(null, 10).get(0);
+        assertThat(acme.getCompany()).isEqualTo("ACME");
+        assertThat(acme.getApplications()).isEqualTo(5);
+        assertThat(acme.getResponseRate()).isEqualTo(80.0);
+        assertThat(acme.getInterviewRate()).isEqualTo(40.0);
+        assertThat(acme.getOfferRate()).isEqualTo(20.0);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT users FROM company_response_stats WHERE company_key = 'acme'", Long.class)).isEqualTo(4);
+    }
+
+    @Test
+    void publishesOnlyCompaniesAboveBothThresholds() {
+        // Enough applications, but all from one user
+        for (int i = 0; i < 4; i++) {
+            apply(1, "Solo", ApplicationEntity.Status.APPLIED);
+        }
+        // Enough users, but too few applications
+        apply(1, "Pair", ApplicationEntity.Status.APPLIED);
+        apply(4, "Pair", ApplicationEntity.Status.APPLIED);
+        // Exactly at both thresholds, and only once chunks two and three are merged
+        apply(3, "Edge", ApplicationEntity.Status.APPLIED);
+        apply(3, "Edge", ApplicationEntity.Status.REJECTED);
+        apply(5, "Edge", ApplicationEntity.Status.APPLIED);
+        // Saved applications do not count towards the thresholds
+        for (int n = 1; n <= 5; n++) {
+            apply(n, "Saved", ApplicationEntity.Status.SAVED);
+        }
+
+        assertThat(companyStatsService.recompute()).isEqualTo(1);
+
+        assertThat(companyStatsService.getResponseRates(null, 10))
+                .extracting(CompanyResponseRateDTO::getCompany)
+                .containsExactly("Edge");
+        assertThat(jdbcTemplate.queryForList("SELECT company_key FROM company_response_stats", String.class))
+                .containsExactly("edge");
+    }
+
+    @Test
+    void recomputeReplacesTheSnapshotReadersSee() {
+        apply(1, "Initech", ApplicationEntity.Status.APPLIED);
+        apply(2, "Initech", ApplicationEntity.Status.APPLIED);
+        apply(3, "Initech", ApplicationEntity.Status.APPLIED);
+        companyStatsService.recompute();
+        assertThat(companyStatsService.getResponseRates("init", 10)).hasSize(1);
+
+        apply(4, "Globex", ApplicationEntity.Status.APPLIED);
+        apply(4, "Globex", ApplicationEntity.Status.OFFER);
+        apply(5, "Globex", ApplicationEntity.Status.INTERVIEW);
+        apply(5, "Globex", ApplicationEntity.Status.APPLIED);
+        companyStatsService.recompute();
+
+        List<CompanyResponseRateDTO> rates = companyStatsService.getResponseRates("", 10);
+        assertThat(rates).extracting(CompanyResponseRateDTO::getCompany).containsExactly("Globex", "Initech");
+        assertThat(companyStatsService.getResponseRates("GLOB", 10)).hasSize(1);
+        assertThat(companyStatsService.getResponseRates(null, 1)).hasSize(1);
+    }
+
+    // Small sequential ids fix which chunk each user falls in
+    private static UUID user(int n) {
+        return new UUID(0, n);
+    }
+
+    private void apply(int user, String company, ApplicationEntity.Status status) {
+        jdbcTemplate.update(INSERT_APPLICATION_SQL, UUID.randomUUID(), user(user), company, status.name());
+    }
+}
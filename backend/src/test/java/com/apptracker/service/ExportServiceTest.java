@@ -0,0 +1,165 @@
+package com.apptracker.service;
+
+import com.apptracker.exception.TooManyRequestsException;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ApplicationExportRepository;
+import com.apptracker.util.StatusChangeMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "app.export.max-concurrent=1")
+@ActiveProfiles("test")
+@Import({ExportService.class, ApplicationExportRepository.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceTest {
+
+    // More than the repository's cursor fetch size, so the stream crosses a fetch boundary
+    private static final int APPLICATIONS = 600;
+    private static final OffsetDateTime START = OffsetDateTime.of(2026, 1, 5, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String INSERT_APPLICATION_SQL =
+            "INSERT INTO applications (id, user_id, company, role, status, archived, board_rank, " +
+            "created_at, updated_at) VALUES (?, ?, ?, 'Engineer', ?, false, 'a0', ?, ?)";
+
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO activity (id, application_id, type, message, created_at) " +
+            "VALUES (?, ?, 'STATUS_CHANGED', ?, ?)";
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void csvTextPrefixesValuesThatSpreadsheetsTreatAsFormulas() {
+        assertThat(ExportService.csvText("=HYPERLINK(\"http://evil\")")).isEqualTo("'=HYPERLINK(\"http://evil\")");
+        assertThat(ExportService.csvText("+1 555")).isEqualTo("'+1 555");
+        assertThat(ExportService.csvText("-2+3")).isEqualTo("'-2+3");
+        assertThat(ExportService.csvText("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ExportService.csvText("\t=1")).isEqualTo("'\t=1");
+    }
+
+    @Test
+    void csvTextLeavesOrdinaryValuesAlone() {
+        assertThat(ExportService.csvText("Acme = Widgets")).isEqualTo("Acme = Widgets");
+        assertThat(ExportService.csvText("https://example.com/jobs/1")).isEqualTo("https://example.com/jobs/1");
+        assertThat(ExportService.csvText("")).isEmpty();
+        assertThat(ExportService.csvText(null)).isNull();
+    }
+
+    @Test
+    void csvStreamsEveryRowAcrossTheFetchBoundaryWithEscaping() throws IOException {
+        List<UUID> ids = insertApplications();
+
+        List<CSVRecord> records;
+        try (CSVParser parser = CSVParser.parse(export(ExportService.Format.CSV),
+                CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).get())) {
+            records = parser.getRecords();
+        }
+
+        // One row per application, plus one extra for the application with two status changes
+        assertThat(records).hasSize(APPLICATIONS + 1);
+        assertThat(records.get(0).get("company")).isEqualTo("Acme, \"Widgets\"\nLtd");
+        assertThat(records.get(1).get("company")).isEqualTo("'=cmd|' /C calc'!A0");
+        assertThat(records.get(records.size() - 1).get("id")).isEqualTo(ids.get(APPLICATIONS - 1).toString());
+
+        List<CSVRecord> changed = records.stream().filter(r -> r.get("id").equals(ids.get(2).toString())).toList();
+        assertThat(changed).extracting(r -> r.get("change_from") + ">" + r.get("change_to"))
+                .containsExactly("APPLIED>INTERVIEW", "INTERVIEW>OFFER");
+    }
+
+    @Test
+    void ndjsonWritesOneLinePerApplicationWithItsHistory() throws IOException {
+        List<UUID> ids = insertApplications();
+
+        String[] lines = export(ExportService.Format.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(APPLICATIONS);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("company").asText()).isEqualTo("Acme, \"Widgets\"\nLtd");
+        JsonNode changed = objectMapper.readTree(lines[2]);
+        assertThat(changed.get("id").asText()).isEqualTo(ids.get(2).toString());
+        assertThat(changed.get("history")).hasSize(2);
+        assertThat(objectMapper.readTree(lines[APPLICATIONS - 1]).get("id").asText())
+                .isEqualTo(ids.get(APPLICATIONS - 1).toString());
+    }
+
+    @Test
+    void refusesExportsOverTheLimitUntilTheRunningOneFinishes() throws IOException {
+        UUID otherUser = UUID.randomUUID();
+        var running = exportService.exportHistory(userId, ExportService.Format.CSV);
+
+        assertThatThrownBy(() -> exportService.exportHistory(userId, ExportService.Format.CSV))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> exportService.exportHistory(otherUser, ExportService.Format.CSV))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        running.writeTo(new ByteArrayOutputStream());
+
+        // Writing the body releases the slot again for the other tests sharing this context
+        exportService.exportHistory(otherUser, ExportService.Format.CSV).writeTo(new ByteArrayOutputStream());
+    }
+
+    private String export(ExportService.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportHistory(userId, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<UUID> insertApplications() {
+        List<UUID> ids = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            String company = switch (i) {
+                case 0 -> "Acme, \"Widgets\"\nLtd";
+                case 1 -> "=cmd|' /C calc'!A0";
+                default -> "Company " + i;
+            };
+            Timestamp createdAt = Timestamp.from(START.plusMinutes(i).toInstant());
+            rows.add(new Object[]{id, userId, company, ApplicationEntity.Status.APPLIED.name(), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, rows);
+
+        insertStatusChange(ids.get(2), ApplicationEntity.Status.APPLIED, ApplicationEntity.Status.INTERVIEW, 1);
+        insertStatusChange(ids.get(2), ApplicationEntity.Status.INTERVIEW, ApplicationEntity.Status.OFFER, 2);
+        return ids;
+    }
+
+    private void insertStatusChange(UUID appId, ApplicationEntity.Status from, ApplicationEntity.Status to,
+            int day) {
+        jdbcTemplate.update(INSERT_ACTIVITY_SQL, UUID.randomUUID(), appId, StatusChangeMessage.format(from, to),
+                Timestamp.from(START.plusDays(day).toInstant()));
+    }
+}
@@ -0,0 +1,159 @@
+package com.apptracker.service;
+
+import com.apptracker.repository.JobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each node is its own application context with its own connections; they only share the database
+class JobLockServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private String url;
+    private AnnotationConfigApplicationContext first;
+    private AnnotationConfigApplicationContext second;
+
+    @BeforeEach
+    void startNodes() {
+        url = "jdbc:h2:mem:job-locks-" + UUID.randomUUID() +
+                ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        first = node("node-a", 60);
+        first.getBean(JdbcTemplate.class).execute("CREATE TABLE scheduled_job_locks (name text PRIMARY KEY, " +
+                "locked_by text NOT NULL, locked_at timestamp with time zone NOT NULL, " +
+                "lock_until timestamp with time zone NOT NULL)");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        first.getBean(JdbcTemplate.class).execute("SHUTDOWN");
+        first.close();
+        if (second != null) {
+            second.close();
+        }
+    }
+
+    @Test
+    void onlyOneNodeRunsTheJobWhileTheLeaseIsHeld() {
+        second = node("node-b", 60);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(lockService(first).runLocked("job", LEASE, runs::incrementAndGet)).isTrue();
+        // The run finished, but the lease is held for min-hold
+        assertThat(lockService(second).runLocked("job", LEASE, runs::incrementAndGet)).isFalse();
+        assertThat(lockService(first).runLocked("job", LEASE, runs::incrementAndGet)).isFalse();
+
+        assertThat(runs).hasValue(1);
+        assertThat(lockedBy("job")).isEqualTo("node-a");
+    }
+
+    @Test
+    void concurrentNodesRunTheJobExactlyOnce() throws Exception {
+        second = node("node-b", 60);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (AnnotationConfigApplicationContext node : List.of(first, second)) {
+                Callable<Boolean> attempt = () -> {
+                    start.await();
+                    return lockService(node).runLocked("job", LEASE, runs::incrementAndGet);
+                };
+                results.add(executor.submit(attempt));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                acquired += result.get() ? 1 : 0;
+            }
+            assertThat(acquired).isEqualTo(1);
+            assertThat(runs).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void anotherNodeTakesOverOnceTheLeaseEnds() {
+        AnnotationConfigApplicationContext quick = node("node-quick", 0);
+        second = node("node-b", 60);
+        try {
+            AtomicInteger runs = new AtomicInteger();
+
+            assertThat(lockService(quick).runLocked("job", LEASE, runs::incrementAndGet)).isTrue();
+            assertThat(lockService(second).runLocked("job", LEASE, runs::incrementAndGet)).isTrue();
+
+            assertThat(runs).hasValue(2);
+            assertThat(lockedBy("job")).isEqualTo("node-b");
+        } finally {
+            quick.close();
+        }
+    }
+
+    private AnnotationConfigApplicationContext node(String owner, long minHoldSeconds) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("node", Map.of(
+                "test.datasource.url", url,
+                "app.jobs.lock.owner", owner,
+                "app.jobs.lock.min-hold-seconds", minHoldSeconds)));
+        context.register(NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private JobLockService lockService(AnnotationConfigApplicationContext node) {
+        return node.getBean(JobLockService.class);
+    }
+
+    private String lockedBy(String name) {
+        return first.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT locked_by FROM scheduled_job_locks WHERE name = ?", String.class, name);
+    }
+
+    @Configuration
+    @Import({JobLockRepository.class, ScheduledJobMonitor.class, JobLockService.class})
+    static class NodeConfig {
+
+        @Bean
+        DataSource dataSource(Environment environment) {
+            return new DriverManagerDataSource(environment.getRequiredProperty("test.datasource.url"));
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
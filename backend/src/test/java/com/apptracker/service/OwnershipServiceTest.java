@@ -0,0 +1,51 @@
+package com.apptracker.service;
+
+import com.apptracker.exception.ResourceNotFoundException;
+import com.apptracker.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OwnershipServiceTest {
+
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final OwnershipService ownershipService = new OwnershipService(applicationRepository, 60, 100);
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID otherUser = UUID.randomUUID();
+    private final UUID appId = UUID.randomUUID();
+    private final UUID otherApp = UUID.randomUUID();
+
+    @Test
+    void invalidateForgetsTheDeletedApplication() {
+        when(applicationRepository.existsByIdAndUserId(appId, userId)).thenReturn(true);
+        ownershipService.verifyOwnership(userId, appId);
+
+        when(applicationRepository.existsByIdAndUserId(appId, userId)).thenReturn(false);
+        ownershipService.invalidate(userId, appId);
+
+        assertThatThrownBy(() -> ownershipService.verifyOwnership(userId, appId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void invalidateUserOnlyForgetsThatUsersPairs() {
+        when(applicationRepository.existsByIdAndUserId(appId, userId)).thenReturn(true);
+        when(applicationRepository.existsByIdAndUserId(otherApp, otherUser)).thenReturn(true);
+        ownershipService.verifyOwnership(userId, appId);
+        ownershipService.verifyOwnership(otherUser, otherApp);
+
+        ownershipService.invalidateUser(userId);
+        ownershipService.verifyOwnership(userId, appId);
+        ownershipService.verifyOwnership(otherUser, otherApp);
+
+        verify(applicationRepository, times(2)).existsByIdAndUserId(appId, userId);
+        verify(applicationRepository, times(1)).existsByIdAndUserId(otherApp, otherUser);
+    }
+}
@@ -0,0 +1,128 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.ApplicationDTO;
+import com.apptracker.model.ApplicationEntity;
+import com.apptracker.repository.ApplicationRepository;
+import com.apptracker.repository.ContactRepository;
+import com.apptracker.repository.NoteRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchIndexServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void userIndexMatchesEveryTermAsAPrefixAcrossSources() {
+        SearchIndexService.UserIndex index = new SearchIndexService.UserIndex();
+        ApplicationDTO acme = dto("Acme", "Backend Engineer");
+        ApplicationDTO globex = dto("Globex", "Designer");
+        index.putApplication(acme, new String[] { "acme", "backend", "engineer" });
+        index.putApplication(globex, new String[] { "globex", "designer" });
+        UUID noteId = UUID.randomUUID();
+        index.putSource(globex.getId(), noteId, new String[] { "referral" });
+
+        assertThat(index.search(List.of("back"))).containsExactly(acme);
+        assertThat(index.search(List.of("glob", "refer"))).containsExactly(globex);
+        assertThat(index.search(List.of("acme", "refer"))).isEmpty();
+
+        index.removeSource(globex.getId(), noteId);
+        assertThat(index.search(List.of("refer"))).isEmpty();
+
+        index.removeApplication(acme.getId());
+        assertThat(index.search(List.of("acme"))).isEmpty();
+    }
+
+    @Test
+    void userIndexSkipsArchivedApplications() {
+        SearchIndexService.UserIndex index = new SearchIndexService.UserIndex();
+        ApplicationDTO archived = dto("Acme", "Engineer");
+        archived.setArchived(true);
+        index.putApplication(archived, new String[] { "acme" });
+
+        assertThat(index.search(List.of("acme"))).isEmpty();
+    }
+
+    @Test
+    void userIndexReclaimsSlotsOfRemovedApplications() {
+        SearchIndexService.UserIndex index = new SearchIndexService.UserIndex();
+        List<ApplicationDTO> removed = new ArrayList<>();
+        for (int i = 0; i < SearchIndexService.UserIndex.COMPACT_MIN_REMOVED; i++) {
+            ApplicationDTO app = dto("Temp " + i, "Engineer");
+            index.putApplication(app, new String[] { "temp", "engineer" });
+            removed.add(app);
+        }
+        ApplicationDTO kept = dto("Keeper", "Engineer");
+        index.putApplication(kept, new String[] { "keeper", "engineer" });
+        UUID noteId = UUID.randomUUID();
+        index.putSource(kept.getId(), noteId, new String[] { "onsite" });
+
+        removed.forEach(app -> index.removeApplication(app.getId()));
+
+        assertThat(index.documentSlots()).isEqualTo(1);
+        assertThat(index.search(List.of("engineer"))).containsExactly(kept);
+        assertThat(index.search(List.of("onsite"))).containsExactly(kept);
+
+        // Sources still attach to the renumbered document
+        index.removeSource(kept.getId(), noteId);
+        assertThat(index.search(List.of("onsite"))).isEmpty();
+    }
+
+    @Test
+    void replaysUpdatesCommittedWhileTheIndexWasBuilding() {
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        SearchIndexService service = new SearchIndexService(applicationRepository,
+                mock(NoteRepository.class), mock(ContactRepository.class), 1_000_000);
+        ApplicationEntity created = entity("Acme");
+
+        // The write commits after the build read the applications table
+        when(applicationRepository.findAllByUserId(userId)).thenAnswer(invocation -> {
+            service.indexApplication(created);
+            return List.of();
+        });
+
+        assertThat(service.search(userId, "acme", 10)).extracting(ApplicationDTO::getId)
+                .containsExactly(created.getId());
+        assertThat(service.search(userId, "acme", 10)).hasSize(1);
+        verify(applicationRepository, times(1)).findAllByUserId(userId);
+    }
+
+    @Test
+    void doesNotCacheABuildInvalidatedWhileRunning() {
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        SearchIndexService service = new SearchIndexService(applicationRepository,
+                mock(NoteRepository.class), mock(ContactRepository.class), 1_000_000);
+        when(applicationRepository.findAllByUserId(userId)).thenAnswer(invocation -> {
+            service.invalidate(userId);
+            return List.of();
+        });
+
+        service.search(userId, "acme", 10);
+        service.search(userId, "acme", 10);
+
+        verify(applicationRepository, times(2)).findAllByUserId(userId);
+    }
+
+    private ApplicationEntity entity(String company) {
+        ApplicationEntity app = new ApplicationEntity();
+        app.setUserId(userId);
+        app.setCompany(company);
+        app.setRole("Engineer");
+        return app;
+    }
+
+    private ApplicationDTO dto(String company, String role) {
+        ApplicationEntity app = entity(company);
+        app.setRole(role);
+        return new ApplicationDTO(app);
+    }
+}
@@ -0,0 +1,168 @@
+package com.apptracker.service;
+
+import com.apptracker.dto.StatusFunnelDTO;
+import com.apptracker.model.ApplicationEntity.Status;
+import com.apptracker.util.StatusChangeMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusFunnelServiceTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2026, 2, 2, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final StatusFunnelService.FunnelAccumulator accumulator = new StatusFunnelService.FunnelAccumulator();
+
+    @Test
+    void emptyInputHasNoApplicationsAndZeroStats() {
+        StatusFunnelDTO funnel = finish();
+
+        assertThat(funnel.getApplications()).isZero();
+        assertThat(funnel.getStages()).hasSize(Status.values().length).allSatisfy(stage -> {
+            assertThat(stage.getReached()).isZero();
+            assertThat(stage.getExited()).isZero();
+            assertThat(stage.getAvgSeconds()).isZero();
+            assertThat(stage.getP50Seconds()).isZero();
+            assertThat(stage.getP90Seconds()).isZero();
+        });
+    }
+
+    @Test
+    void applicationWithoutTransitionsOnlyReachesItsCurrentStatus() {
+        accumulator.accept(UUID.randomUUID(), "SAVED", CREATED, null, null);
+
+        StatusFunnelDTO funnel = finish();
+
+        assertThat(funnel.getApplications()).isEqualTo(1);
+        assertThat(stage(funnel, Status.SAVED).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.SAVED).getExited()).isZero();
+        assertThat(stage(funnel, Status.APPLIED).getReached()).isZero();
+    }
+
+    @Test
+    void singleSampleIsEveryPercentile() {
+        change(UUID.randomUUID(), Status.APPLIED, Status.INTERVIEW, 3_600);
+
+        StatusFunnelDTO.StageStats applied = stage(finish(), Status.APPLIED);
+
+        assertThat(applied.getExited()).isEqualTo(1);
+        assertThat(applied.getAvgSeconds()).isEqualTo(3_600);
+        assertThat(applied.getP50Seconds()).isEqualTo(3_600);
+        assertThat(applied.getP90Seconds()).isEqualTo(3_600);
+    }
+
+    @Test
+    void percentilesUseTheNearestRankWithoutInterpolating() {
+        // Ten applications that stayed 1..10 hours in APPLIED, fed out of order
+        for (int hours : new int[]{7, 2, 10, 1, 5, 9, 3, 8, 4, 6}) {
+            change(UUID.randomUUID(), Status.APPLIED, Status.REJECTED, hours * 3_600L);
+        }
+        // Four more samples in INTERVIEW: p50 and p90 fall between ranks and round up to a sample
+        for (int minutes : new int[]{40, 10, 30, 20}) {
+            change(UUID.randomUUID(), Status.INTERVIEW, Status.OFFER, minutes * 60L);
+        }
+
+        StatusFunnelDTO funnel = finish();
+
+        StatusFunnelDTO.StageStats applied = stage(funnel, Status.APPLIED);
+        assertThat(applied.getExited()).isEqualTo(10);
+        assertThat(applied.getAvgSeconds()).isEqualTo(19_800);
+        assertThat(applied.getP50Seconds()).isEqualTo(5 * 3_600);
+        assertThat(applied.getP90Seconds()).isEqualTo(9 * 3_600);
+
+        StatusFunnelDTO.StageStats interview = stage(funnel, Status.INTERVIEW);
+        assertThat(interview.getP50Seconds()).isEqualTo(20 * 60);
+        assertThat(interview.getP90Seconds()).isEqualTo(40 * 60);
+    }
+
+    @Test
+    void skippedStagesAreNotCountedAsReached() {
+        UUID app = UUID.randomUUID();
+        accumulator.accept(app, "OFFER", CREATED, StatusChangeMessage.format(Status.SAVED, Status.APPLIED),
+                CREATED.plusDays(1));
+        accumulator.accept(app, "OFFER", CREATED, StatusChangeMessage.format(Status.APPLIED, Status.OFFER),
+                CREATED.plusDays(3));
+
+        StatusFunnelDTO funnel = finish();
+
+        assertThat(stage(funnel, Status.SAVED).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.APPLIED).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.OA).getReached()).isZero();
+        assertThat(stage(funnel, Status.INTERVIEW).getReached()).isZero();
+        assertThat(stage(funnel, Status.OFFER).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.APPLIED).getP50Seconds()).isEqualTo(2 * 86_400);
+    }
+
+    @Test
+    void backwardsTransitionsCountEachStageOncePerApplication() {
+        UUID app = UUID.randomUUID();
+        accumulator.accept(app, "INTERVIEW", CREATED, StatusChangeMessage.format(Status.APPLIED, Status.INTERVIEW),
+                CREATED.plusHours(1));
+        accumulator.accept(app, "INTERVIEW", CREATED, StatusChangeMessage.format(Status.INTERVIEW, Status.APPLIED),
+                CREATED.plusHours(3));
+        accumulator.accept(app, "INTERVIEW", CREATED, StatusChangeMessage.format(Status.APPLIED, Status.INTERVIEW),
+                CREATED.plusHours(6));
+
+        StatusFunnelDTO funnel = finish();
+
+        assertThat(funnel.getApplications()).isEqualTo(1);
+        assertThat(stage(funnel, Status.APPLIED).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.INTERVIEW).getReached()).isEqualTo(1);
+        // Every stay is a sample: APPLIED for 1h then 3h, INTERVIEW for 2h
+        assertThat(stage(funnel, Status.APPLIED).getExited()).isEqualTo(2);
+        assertThat(stage(funnel, Status.APPLIED).getAvgSeconds()).isEqualTo(2 * 3_600);
+        assertThat(stage(funnel, Status.INTERVIEW).getExited()).isEqualTo(1);
+        assertThat(stage(funnel, Status.INTERVIEW).getP50Seconds()).isEqualTo(2 * 3_600);
+    }
+
+    @Test
+    void ignoresUnparseableMessagesAndNegativeDurations() {
+        UUID app = UUID.randomUUID();
+        accumulator.accept(app, "APPLIED", CREATED, "Application archived", CREATED.plusHours(1));
+        // Clock skew: logged before the application was created
+        accumulator.accept(app, "APPLIED", CREATED, StatusChangeMessage.format(Status.SAVED, Status.APPLIED),
+                CREATED.minusMinutes(5));
+
+        StatusFunnelDTO funnel = finish();
+
+        assertThat(stage(funnel, Status.SAVED).getReached()).isEqualTo(1);
+        assertThat(stage(funnel, Status.SAVED).getExited()).isZero();
+    }
+
+    @Test
+    void longArrayGrowsAndSortsACopy() {
+        StatusFunnelService.LongArray array = new StatusFunnelService.LongArray();
+        for (long value = 20; value > 0; value--) {
+            array.add(value);
+        }
+
+        long[] sorted = array.sorted();
+
+        assertThat(sorted).hasSize(20).startsWith(1, 2, 3).endsWith(19, 20);
+        array.add(0);
+        assertThat(array.sorted()).hasSize(21).startsWith(0);
+        assertThat(sorted).hasSize(20);
+    }
+
+    // One application created at CREATED that moved from -> to after the given number of seconds
+    private void change(UUID app, Status from, Status to, long afterSeconds) {
+        accumulator.accept(app, to.name(), CREATED, StatusChangeMessage.format(from, to),
+                CREATED.plusSeconds(afterSeconds));
+    }
+
+    private StatusFunnelDTO finish() {
+        accumulator.finish();
+        return accumulator.toDTO();
+    }
+
+    private static StatusFunnelDTO.StageStats stage(StatusFunnelDTO funnel, Status status) {
+        return funnel.getStages().stream()
+                .filter(stage -> stage.getStatus().equals(status.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.apptracker.service;
+
+import com.apptracker.model.EmailVerificationToken;
+import com.apptracker.model.PasswordResetToken;
+import com.apptracker.repository.PasswordResetTokenRepository;
+import com.apptracker.repository.VerifyEmailTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TokenPurgeService.class, SimpleMeterRegistry.class})
+class TokenPurgeServiceTest {
+
+    @Autowired
+    private TokenPurgeService tokenPurgeService;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private VerifyEmailTokenRepository verifyEmailTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final OffsetDateTime now = OffsetDateTime.now();
+
+    @Test
+    void keepsUsedAndExpiredResetTokensForTheRetentionPeriod() {
+        UUID longExpired = resetToken(now.minusDays(2), false, now.minusDays(2));
+        UUID recentlyExpired = resetToken(now.minusHours(1), false, now.minusHours(2));
+        UUID longUsed = resetToken(now.plusHours(1), true, now.minusDays(2));
+        UUID recentlyUsed = resetToken(now.plusHours(1), true, now.minusMinutes(5));
+
+        assertThat(tokenPurgeService.purge()).isEqualTo(2);
+
+        assertThat(passwordResetTokenRepository.existsById(longExpired)).isFalse();
+        assertThat(passwordResetTokenRepository.existsById(longUsed)).isFalse();
+        assertThat(passwordResetTokenRepository.existsById(recentlyExpired)).isTrue();
+        assertThat(passwordResetTokenRepository.existsById(recentlyUsed)).isTrue();
+        assertThat(purged("password_reset_tokens")).isEqualTo(2);
+    }
+
+    @Test
+    void keepsVerifiedEmailTokensUntilTheirOwnRetention() {
+        UUID expiredUnverified = verificationToken(now.minusDays(2), null);
+        UUID verifiedRecently = verificationToken(now.minusDays(2), now.minusDays(2).plusMinutes(5));
+        UUID verifiedLongAgo = verificationToken(now.minusDays(40), now.minusDays(40).plusMinutes(5));
+        UUID pending = verificationToken(now.plusMinutes(10), null);
+
+        assertThat(tokenPurgeService.purge()).isEqualTo(2);
+
+        assertThat(verifyEmailTokenRepository.existsById(expiredUnverified)).isFalse();
+        assertThat(verifyEmailTokenRepository.existsById(verifiedLongAgo)).isFalse();
+        assertThat(verifyEmailTokenRepository.existsById(verifiedRecently)).isTrue();
+        assertThat(verifyEmailTokenRepository.existsById(pending)).isTrue();
+        assertThat(purged("email_verification_tokens")).isEqualTo(2);
+    }
+
+    private UUID resetToken(OffsetDateTime expiresAt, boolean used, OffsetDateTime createdAt) {
+        PasswordResetToken token = new PasswordResetToken();
+        token.setUserId(UUID.randomUUID());
+        token.setTokenHash(UUID.randomUUID().toString());
+        token.setExpiresAt(expiresAt);
+        token.setUsed(used);
+        token.setCreatedAt(createdAt);
+        return passwordResetTokenRepository.saveAndFlush(token).getId();
+    }
+
+    private UUID verificationToken(OffsetDateTime expiresAt, OffsetDateTime verifiedAt) {
+        EmailVerificationToken token = new EmailVerificationToken();
+        token.setId(UUID.randomUUID());
+        token.setUserId(UUID.randomUUID());
+        token.setToken(UUID.randomUUID().toString());
+        token.setCreatedAt(expiresAt.minusMinutes(15));
+        token.setExpiresAt(expiresAt);
+        token.setVerifiedAt(verifiedAt);
+        return verifyEmailTokenRepository.saveAndFlush(token).getId();
+    }
+
+    private double purged(String table) {
+        return meterRegistry.get("tokens.purged").tag("table", table).counter().count();
+    }
+}
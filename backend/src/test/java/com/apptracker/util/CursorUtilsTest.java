@@ -0,0 +1,56 @@
+package com.apptracker.util;
+
+import com.apptracker.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilsTest {
+
+    @Test
+    void createdAtCursorRoundTrips() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2026, 3, 14, 15, 9, 26, 535_000_000, ZoneOffset.ofHours(-5));
+        UUID id = UUID.randomUUID();
+
+        String token = CursorUtils.encode(createdAt, id);
+        CursorUtils.Cursor cursor = CursorUtils.decode(token);
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(id);
+    }
+
+    @Test
+    void rankCursorRoundTrips() {
+        UUID id = UUID.randomUUID();
+
+        CursorUtils.RankCursor cursor = CursorUtils.decodeRank(CursorUtils.encodeRank("0000001i", id));
+
+        assertThat(cursor.getBoardRank()).isEqualTo("0000001i");
+        assertThat(cursor.getId()).isEqualTo(id);
+    }
+
+    @Test
+    void malformedTokensAreBadRequests() {
+        assertThatThrownBy(() -> CursorUtils.decode("not base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(encodeRaw("no-separator")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(encodeRaw("yesterday|" + UUID.randomUUID())))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(encodeRaw(OffsetDateTime.now() + "|not-a-uuid")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CursorUtils.decodeRank(encodeRaw("|" + UUID.randomUUID())))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.apptracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilsTest {
+
+    private static final String ETAG = "W/\"user-7\"";
+
+    @Test
+    void matchesTheSameTagWeakOrStrong() {
+        assertThat(ETagUtils.matches("W/\"user-7\"", ETAG)).isTrue();
+        assertThat(ETagUtils.matches("\"user-7\"", ETAG)).isTrue();
+    }
+
+    @Test
+    void matchesAnyTagInAListOrAWildcard() {
+        assertThat(ETagUtils.matches("\"user-5\", W/\"user-7\"", ETAG)).isTrue();
+        assertThat(ETagUtils.matches("*", ETAG)).isTrue();
+    }
+
+    @Test
+    void doesNotMatchAnOlderVersionOrAMissingHeader() {
+        assertThat(ETagUtils.matches("W/\"user-6\"", ETAG)).isFalse();
+        assertThat(ETagUtils.matches("W/\"user-6\", \"user-8\"", ETAG)).isFalse();
+        assertThat(ETagUtils.matches(null, ETAG)).isFalse();
+        assertThat(ETagUtils.matches(" ", ETAG)).isFalse();
+    }
+}
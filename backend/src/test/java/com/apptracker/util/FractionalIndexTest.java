@@ -0,0 +1,78 @@
+package com.apptracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalIndexTest {
+
+    @Test
+    void betweenSortsStrictlyBetweenNeighbours() {
+        assertThat(FractionalIndex.between(null, null)).isEqualTo("i");
+        assertThat(FractionalIndex.between("a", "b")).isBetween("a", "b").isNotIn("a", "b");
+        assertThat(FractionalIndex.between("a", "a1")).isGreaterThan("a").isLessThan("a1");
+        assertThat(FractionalIndex.between(null, "1")).isLessThan("1");
+        assertThat(FractionalIndex.between("z", null)).isGreaterThan("z");
+    }
+
+    @Test
+    void randomInsertsKeepOrderAndNeverEndInZero() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(List.of(FractionalIndex.between(null, null)));
+        for (int i = 0; i < 5000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String before = position == 0 ? null : keys.get(position - 1);
+            String after = position == keys.size() ? null : keys.get(position);
+            String key = FractionalIndex.between(before, after);
+
+            if (before != null) {
+                assertThat(key).isGreaterThan(before);
+            }
+            if (after != null) {
+                assertThat(key).isLessThan(after);
+            }
+            assertThat(key).doesNotEndWith("0");
+            keys.add(position, key);
+        }
+    }
+
+    @Test
+    void repeatedInsertsAtTheTopStayOrdered() {
+        String first = "00000001";
+        for (int i = 0; i < 200; i++) {
+            String next = FractionalIndex.between(null, first);
+            assertThat(next).isLessThan(first).doesNotEndWith("0");
+            first = next;
+        }
+    }
+
+    @Test
+    void batchOfKeysIsAscendingWithinBounds() {
+        List<String> keys = FractionalIndex.between(null, "5", 100);
+
+        assertThat(keys).hasSize(100).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.get(keys.size() - 1)).isLessThan("5");
+    }
+
+    @Test
+    void evenlySpacedKeysAreShortAndAscending() {
+        List<String> keys = FractionalIndex.evenlySpaced(5000);
+
+        assertThat(keys).hasSize(5000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(3).doesNotEndWith("0"));
+        assertThat(FractionalIndex.evenlySpaced(0)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedOrUnorderedKeys() {
+        assertThatThrownBy(() -> FractionalIndex.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.between("a0", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
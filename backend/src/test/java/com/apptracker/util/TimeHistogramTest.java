@@ -0,0 +1,76 @@
+package com.apptracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeHistogramTest {
+
+    // A Wednesday afternoon
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 10, 14, 15, 30, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void defaultRangeHasExactlyTwelveBucketsEndingWithTheCurrentOne() {
+        for (TimeHistogram.Granularity granularity : TimeHistogram.Granularity.values()) {
+            TimeHistogram histogram = TimeHistogram.lastBuckets(granularity, NOW, 12);
+
+            assertThat(histogram.size()).as(granularity.name()).isEqualTo(12);
+            assertThat(histogram.bucketStart(11)).as(granularity.name())
+                    .isEqualTo(TimeHistogram.alignToBucket(granularity, NOW));
+            assertThat(histogram.getEnd()).as(granularity.name()).isAfter(NOW);
+        }
+    }
+
+    @Test
+    void defaultWeekRangeStartsOnAMonday() {
+        TimeHistogram histogram = TimeHistogram.lastBuckets(TimeHistogram.Granularity.WEEK, NOW, 12);
+
+        assertThat(histogram.getStart()).isEqualTo(OffsetDateTime.of(2026, 7, 27, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    void endOnABucketBoundaryExcludesThatBucket() {
+        OffsetDateTime monday = OffsetDateTime.of(2026, 10, 12, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        TimeHistogram histogram = TimeHistogram.lastBuckets(TimeHistogram.Granularity.WEEK, monday, 12);
+
+        assertThat(histogram.getEnd()).isEqualTo(monday);
+    }
+
+    @Test
+    void coveringAlignsTheStartAndIncludesPartialBuckets() {
+        TimeHistogram histogram = TimeHistogram.covering(TimeHistogram.Granularity.MONTH,
+                NOW.minusMonths(2), NOW, 100);
+
+        assertThat(histogram.size()).isEqualTo(3);
+        assertThat(histogram.getStart()).isEqualTo(OffsetDateTime.of(2026, 8, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    void countsIntoBucketsAndIgnoresOutOfRangeTimes() {
+        TimeHistogram histogram = TimeHistogram.lastBuckets(TimeHistogram.Granularity.DAY, NOW, 3);
+
+        histogram.add(NOW);
+        histogram.add(NOW.minusDays(2).withHour(0));
+        histogram.add(NOW.minusDays(2).withHour(23), 4);
+        histogram.add(NOW.minusDays(3));
+        histogram.add(NOW.plusDays(1));
+
+        assertThat(histogram.getCount(0)).isEqualTo(5);
+        assertThat(histogram.getCount(1)).isZero();
+        assertThat(histogram.getCount(2)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsRangesOverTheBucketLimit() {
+        assertThatThrownBy(() -> TimeHistogram.covering(TimeHistogram.Granularity.DAY,
+                NOW.minusDays(30), NOW, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeHistogram.covering(TimeHistogram.Granularity.DAY, NOW, NOW, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,31 @@
+-- Test-only counterpart of the Flyway migrations for schema that has no JPA
+-- mapping. Keep in step with db/migration.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS change_version bigint NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS user_application_stats (
+  user_id uuid NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  status VARCHAR(50) NOT NULL,
+  app_count bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (user_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS company_response_stats (
+  company_key text PRIMARY KEY,
+  company text NOT NULL,
+  applications bigint NOT NULL,
+  users bigint NOT NULL,
+  responses bigint NOT NULL,
+  interviews bigint NOT NULL,
+  offers bigint NOT NULL,
+  computed_at timestamp with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS scheduled_job_locks (
+  name text PRIMARY KEY,
+  locked_by text NOT NULL,
+  locked_at timestamp with time zone NOT NULL,
+  lock_until timestamp with time zone NOT NULL
+);
+
+-- H2 has no partial indexes; stands in for V10's idx_applications_auto_archive
+CREATE INDEX IF NOT EXISTS idx_applications_auto_archive ON applications(status, archived, updated_at);